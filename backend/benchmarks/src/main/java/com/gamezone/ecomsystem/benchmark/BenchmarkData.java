@@ -0,0 +1,91 @@
+package com.gamezone.ecomsystem.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.PlatformStats;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+
+/**
+ * Deterministic, production-shaped model objects for the benchmarks. Every
+ * call with the same arguments builds the same data.
+ */
+public final class BenchmarkData {
+    private static final long NOW = 1_700_000_000_000L;
+    private static final String[] GENRES = { "Action", "RPG", "FPS", "Sports", "Racing", "Strategy" };
+    private static final String[] PAYMENT_METHODS = { "UPI", "Credit Card", "Debit Card", "PayPal" };
+
+    private BenchmarkData() {
+    }
+
+    public static Member member(int i) {
+        Member member = new Member();
+        member.setId(id(1, i));
+        member.setName("Player " + i);
+        member.setPhoneNumber(String.format("9%09d", i));
+        member.setEmail("player" + i + "@gamezone.dev");
+        member.setBalance(250.75 + i);
+        member.setJoiningDate(new Date(NOW - i * 60_000L));
+        member.setActive(true);
+        return member;
+    }
+
+    public static List<Game> games(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String genre = GENRES[random.nextInt(GENRES.length)];
+            Game game = new Game("Game " + i, 9.99 + random.nextInt(50),
+                    "A " + genre.toLowerCase() + " game with a description of realistic length for the catalog.", genre, "PC");
+            game.setId(id(2, i));
+            games.add(game);
+        }
+        return games;
+    }
+
+    public static List<Transaction> transactions(String memberId, int count) {
+        SplittableRandom random = new SplittableRandom(43);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transaction transaction = new Transaction(memberId, id(2, random.nextInt(100)), 9.99 + random.nextInt(50),
+                    new Date(NOW - i * 3_600_000L));
+            transaction.setId(id(3, i));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    public static List<Recharge> recharges(String memberId, int count) {
+        SplittableRandom random = new SplittableRandom(44);
+        List<Recharge> recharges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Recharge recharge = new Recharge(memberId, 100.0 * (1 + random.nextInt(10)),
+                    PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)], new Date(NOW - i * 7_200_000L));
+            recharge.setId(id(4, i));
+            recharges.add(recharge);
+        }
+        return recharges;
+    }
+
+    public static PlatformStats platformStats() {
+        PlatformStats stats = new PlatformStats();
+        stats.setTotalMembers(1_000_000);
+        stats.setActiveMembers(640_000);
+        stats.setTotalGames(10_000);
+        stats.setTotalTransactions(100_000_000);
+        stats.setTotalRevenue(2_950_000_000.5);
+        stats.setTotalRecharges(10_000_000);
+        stats.setTotalRechargeAmount(3_100_000_000.0);
+        return stats;
+    }
+
+    // ObjectId-shaped hex ids, so string lengths match production
+    private static String id(int kind, int i) {
+        return String.format("%08x%016x", kind, i);
+    }
+}
@@ -0,0 +1,106 @@
+package com.gamezone.ecomsystem.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gamezone.ecomsystem.FieldSelectionConfig;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.PlatformStats;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.service.StatsService;
+
+/**
+ * The in-memory part of the two dashboard endpoints: shaping the response
+ * maps (including the totalSpent/totalRecharged stream sums) and writing
+ * them as JSON with the application's ObjectMapper configuration. The
+ * Mongo reads are left out; size is the member's history length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardBenchmark {
+
+    @Param({ "10", "1000" })
+    int size;
+
+    @Param({ "100" })
+    int catalogSize;
+
+    private final StatsService statsService = new StatsService();
+    private ObjectMapper objectMapper;
+
+    private Member member;
+    private List<Transaction> transactions;
+    private List<Recharge> recharges;
+    private List<Game> games;
+    private PlatformStats counters;
+    private Map<String, Object> userDashboard;
+    private Map<String, Object> adminStats;
+
+    @Setup
+    public void setUp() {
+        // Mirrors the Spring Boot auto-configured mapper plus the application's customizer
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new FieldSelectionConfig().fieldSelectionFilter().customize(builder);
+        objectMapper = builder.build();
+
+        member = BenchmarkData.member(1);
+        transactions = BenchmarkData.transactions(member.getId(), size);
+        recharges = BenchmarkData.recharges(member.getId(), size);
+        games = BenchmarkData.games(catalogSize);
+        counters = BenchmarkData.platformStats();
+        userDashboard = statsService.toUserDashboard(member, transactions, recharges, games);
+        adminStats = statsService.toAdminStats(counters, transactions.subList(0, Math.min(10, size)),
+                recharges.subList(0, Math.min(10, size)));
+    }
+
+    @Benchmark
+    public double totals() {
+        return transactions.stream().mapToDouble(Transaction::getAmount).sum()
+                + recharges.stream().mapToDouble(Recharge::getAmount).sum();
+    }
+
+    @Benchmark
+    public Map<String, Object> buildUserDashboard() {
+        return statsService.toUserDashboard(member, transactions, recharges, games);
+    }
+
+    @Benchmark
+    public Map<String, Object> buildAdminStats() {
+        return statsService.toAdminStats(counters, transactions.subList(0, Math.min(10, size)),
+                recharges.subList(0, Math.min(10, size)));
+    }
+
+    @Benchmark
+    public byte[] serializeUserDashboard() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userDashboard);
+    }
+
+    @Benchmark
+    public byte[] serializeAdminStats() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(adminStats);
+    }
+}
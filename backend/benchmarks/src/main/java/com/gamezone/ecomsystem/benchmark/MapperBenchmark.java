@@ -0,0 +1,69 @@
+package com.gamezone.ecomsystem.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gamezone.ecomsystem.dto.GameDto;
+import com.gamezone.ecomsystem.dto.MemberDto;
+import com.gamezone.ecomsystem.dto.RechargeDto;
+import com.gamezone.ecomsystem.mapper.GameMapper;
+import com.gamezone.ecomsystem.mapper.MemberMapper;
+import com.gamezone.ecomsystem.mapper.RechargeMapper;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+
+/**
+ * Entity to DTO conversions, as the member profile endpoint runs them: one
+ * member, then the recharge history and the active games as lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({ "10", "1000" })
+    int size;
+
+    private Member member;
+    private List<Recharge> recharges;
+    private List<Game> games;
+
+    @Setup
+    public void setUp() {
+        member = BenchmarkData.member(1);
+        recharges = BenchmarkData.recharges(member.getId(), size);
+        games = BenchmarkData.games(size);
+    }
+
+    @Benchmark
+    public MemberDto member() {
+        return MemberMapper.toDto(member);
+    }
+
+    @Benchmark
+    public List<RechargeDto> recharges() {
+        return recharges.stream().map(RechargeMapper::toDto).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<GameDto> games() {
+        return games.stream().map(GameMapper::toDto).collect(Collectors.toList());
+    }
+}
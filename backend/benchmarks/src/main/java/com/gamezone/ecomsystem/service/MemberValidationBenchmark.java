@@ -0,0 +1,48 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The phone and email checks run on every member create and update. Lives
+ * in the service package to reach the package-private validators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberValidationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Phone {
+        @Param({ "9876543210", "98765-4321" })
+        String value;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Email {
+        @Param({ "player.one+games@gamezone.dev", "not-an-email" })
+        String value;
+    }
+
+    @Benchmark
+    public boolean phoneNumber(Phone phone) {
+        return MemberService.isValidPhoneNumber(phone.value);
+    }
+
+    @Benchmark
+    public boolean email(Email email) {
+        return MemberService.isValidEmail(email.value);
+    }
+}
@@ -0,0 +1,77 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The token bucket check in front of every POST /transactions and
+ * /recharges, with the clock read included. Lives in the service package
+ * to reach the package-private {@link TokenBuckets}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private static final int MEMBERS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Limits {
+        final String[] members = new String[MEMBERS];
+        TokenBuckets roomy; // Never runs out, every check takes a token
+        TokenBuckets exhausted; // Every check is rejected
+
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < MEMBERS; i++) {
+                members[i] = String.format("64b%021x", i);
+            }
+            roomy = new TokenBuckets(Integer.MAX_VALUE, 1e9, MEMBERS * 2);
+            exhausted = new TokenBuckets(1, 0.001, MEMBERS * 2);
+            long now = System.nanoTime();
+            for (String member : members) {
+                roomy.tryAcquire(member, now);
+                exhausted.tryAcquire(member, now);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String member(Limits limits) {
+            next = (next + 1) % MEMBERS;
+            return limits.members[next];
+        }
+    }
+
+    @Benchmark
+    public long allowed(Limits limits, Cursor cursor) {
+        return limits.roomy.tryAcquire(cursor.member(limits), System.nanoTime());
+    }
+
+    @Benchmark
+    public long rejected(Limits limits, Cursor cursor) {
+        return limits.exhausted.tryAcquire(cursor.member(limits), System.nanoTime());
+    }
+
+    // Worst case: one kiosk's member hammered from several request threads at once
+    @Benchmark
+    @Threads(4)
+    public long contendedKey(Limits limits) {
+        return limits.roomy.tryAcquire(limits.members[0], System.nanoTime());
+    }
+}
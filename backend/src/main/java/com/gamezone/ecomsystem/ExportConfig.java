@@ -0,0 +1,43 @@
+package com.gamezone.ecomsystem;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Gives the streaming exports (GET /transactions/export, /recharges/export)
+ * export.timeout instead of the container's async timeout, 30 s on Tomcat,
+ * which would cut a full-history export off partway through. A timeout of
+ * 0 never expires.
+ */
+@Configuration
+public class ExportConfig {
+    @Bean
+    public WebMvcConfigurer exportTimeoutConfigurer(@Value("${export.timeout:2h}") Duration timeout) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                        // Runs before the async context starts, while its timeout can still be set
+                        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                        if (request instanceof AsyncWebRequest async && pattern != null && pattern.toString().endsWith("/export")) {
+                            async.setTimeout(timeout.isZero() ? -1L : timeout.toMillis());
+                        }
+                    }
+                });
+            }
+        };
+    }
+}
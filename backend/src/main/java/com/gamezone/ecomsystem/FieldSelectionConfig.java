@@ -0,0 +1,34 @@
+package com.gamezone.ecomsystem;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.gamezone.ecomsystem.dto.FieldSelection;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Product;
+
+/**
+ * Attaches the {@code fields=} filter to the models that support sparse
+ * fieldsets. Responses that do not select fields fall back to the default
+ * filter, which writes everything.
+ */
+@Configuration
+public class FieldSelectionConfig {
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilter() {
+        return builder -> builder
+                .mixIn(Member.class, FieldSelectionMixin.class)
+                .mixIn(Game.class, FieldSelectionMixin.class)
+                .mixIn(Product.class, FieldSelectionMixin.class)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @JsonFilter(FieldSelection.FILTER_ID)
+    interface FieldSelectionMixin {
+    }
+}
@@ -0,0 +1,25 @@
+package com.gamezone.ecomsystem;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Turns {@link Timed} on service and controller methods into timers.
+ *
+ * Mongo needs no code here: with Micrometer on the classpath Spring Boot
+ * registers a command listener (mongodb.driver.commands, tagged by command
+ * and collection) and connection pool gauges (mongodb.driver.pool.*) on the
+ * Mongo clients. Histograms and the Prometheus endpoint are switched on in
+ * application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,99 @@
+package com.gamezone.ecomsystem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.gamezone.ecomsystem.model.Admin;
+import com.gamezone.ecomsystem.model.Member;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+
+/**
+ * Builds the MongoTemplate the way Spring Boot does, after moving an existing
+ * database onto the named unique indexes the entities declare.
+ *
+ * Index creation runs while the template is built, and Mongo refuses a new
+ * index on the same key as an old one with other options. The plain
+ * phoneNumber and email indexes of earlier versions are therefore dropped
+ * first. If the data already holds duplicates the unique index cannot be
+ * built, and startup stops with a message saying which field to clean up.
+ */
+@Configuration
+public class MongoIndexConfig {
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    private static final List<UniqueIndex> UNIQUE_INDEXES = List.of(
+            new UniqueIndex("members", "phoneNumber", Member.PHONE_NUMBER_INDEX, true),
+            new UniqueIndex("members", "email", Member.EMAIL_INDEX, true),
+            new UniqueIndex("admin", "username", Admin.USERNAME_INDEX, false),
+            new UniqueIndex("admin", "email", Admin.EMAIL_INDEX, false));
+
+    @Bean
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory factory, MongoConverter converter) {
+        if (converter.getMappingContext() instanceof MongoMappingContext context && context.isAutoIndexCreation()) {
+            migrateUniqueIndexes(factory.getMongoDatabase());
+        }
+        return new MongoTemplate(factory, converter);
+    }
+
+    static void migrateUniqueIndexes(MongoDatabase database) {
+        for (UniqueIndex index : UNIQUE_INDEXES) {
+            migrate(database.getCollection(index.collection()), index);
+        }
+    }
+
+    private static void migrate(MongoCollection<Document> collection, UniqueIndex index) {
+        List<String> replaced = new ArrayList<>();
+        for (Document existing : collection.listIndexes()) {
+            String name = existing.getString("name");
+            if (index.name().equals(name)) {
+                return; // Already migrated
+            }
+            Document key = existing.get("key", Document.class);
+            if (key.size() == 1 && key.containsKey(index.field())) {
+                replaced.add(name);
+            }
+        }
+        long duplicates = duplicateValues(collection, index);
+        if (duplicates > 0) {
+            throw new IllegalStateException(String.format(
+                    "Cannot create unique index %s: %d %s values in collection %s are used by more than one document. "
+                            + "Make them unique and restart.",
+                    index.name(), duplicates, index.field(), index.collection()));
+        }
+        for (String name : replaced) {
+            log.info("Dropping index {} on {}.{}, replaced by unique index {}", name, index.collection(), index.field(), index.name());
+            collection.dropIndex(name);
+        }
+    }
+
+    private static long duplicateValues(MongoCollection<Document> collection, UniqueIndex index) {
+        List<Bson> pipeline = new ArrayList<>();
+        if (index.sparse()) {
+            // A sparse index skips documents without the field
+            pipeline.add(Aggregates.match(Filters.exists(index.field())));
+        }
+        pipeline.add(Aggregates.group("$" + index.field(), Accumulators.sum("documents", 1)));
+        pipeline.add(Aggregates.match(Filters.gt("documents", 1)));
+        pipeline.add(Aggregates.count("values"));
+        Document result = collection.aggregate(pipeline).first();
+        return result == null ? 0 : ((Number) result.get("values")).longValue();
+    }
+
+    private record UniqueIndex(String collection, String field, String name, boolean sparse) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.gamezone.ecomsystem;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.gamezone.ecomsystem.service.OperationTimeTracker;
+import com.gamezone.ecomsystem.service.QueryProfiler;
+import com.gamezone.ecomsystem.service.RoundTripTracker;
+
+/**
+ * Registers the application's command listeners on every Mongo client
+ * Spring Boot builds, blocking and reactive alike.
+ */
+@Configuration
+public class MongoListenersConfig {
+    @Bean
+    public MongoClientSettingsBuilderCustomizer queryProfilerListener(QueryProfiler profiler) {
+        return builder -> builder.addCommandListener(profiler);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer roundTripListener(RoundTripTracker tracker) {
+        return builder -> builder.addCommandListener(tracker);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer operationTimeListener(OperationTimeTracker tracker) {
+        return builder -> builder.addCommandListener(tracker);
+    }
+}
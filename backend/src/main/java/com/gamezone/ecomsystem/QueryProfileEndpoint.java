@@ -0,0 +1,51 @@
+package com.gamezone.ecomsystem;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.gamezone.ecomsystem.service.QueryProfiler;
+
+/**
+ * {@code GET /actuator/queryprofile} lists the Mongo query shapes seen by
+ * the {@link QueryProfiler}, most total time first; {@code ?limit=} keeps
+ * the top entries and {@code /actuator/queryprofile/{collection}} narrows
+ * to one collection. {@code DELETE} starts a fresh measurement.
+ */
+@Component
+@Endpoint(id = "queryprofile")
+public class QueryProfileEndpoint {
+
+    @Autowired
+    private QueryProfiler profiler;
+
+    @ReadOperation
+    public Map<String, Object> shapes(@Nullable Integer limit) {
+        return report(profiler.shapes(), limit);
+    }
+
+    @ReadOperation
+    public Map<String, Object> collection(@Selector String collection, @Nullable Integer limit) {
+        return report(profiler.shapes().stream().filter(shape -> shape.getCollection().equals(collection)).toList(), limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+
+    private Map<String, Object> report(List<QueryProfiler.ShapeStats> shapes, Integer limit) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("slowThresholdMillis", profiler.getSlowThreshold().toMillis());
+        report.put("shapes", limit == null ? shapes : shapes.subList(0, Math.min(limit, shapes.size())));
+        return report;
+    }
+}
@@ -0,0 +1,135 @@
+package com.gamezone.ecomsystem;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.gamezone.ecomsystem.service.RoundTripTracker;
+import com.gamezone.ecomsystem.service.RoundTrips;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Counts the Mongo commands behind every HTTP request.
+ *
+ * The count and time so far go out in a {@code Server-Timing: mongo} header,
+ * added just before the body is written (work done while streaming a body
+ * is not in the header). When the request completes they are recorded as
+ * gamezone.http.mongo.commands and gamezone.http.mongo.time, tagged by
+ * method and URI pattern, and repeated query shapes are reported by the
+ * {@link RoundTripTracker}.
+ */
+@Component
+public class RoundTripFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Server-Timing";
+
+    @Autowired
+    private RoundTripTracker tracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RoundTrips trips = tracker.begin(request.getMethod() + " " + request.getRequestURI());
+        ServerTimingResponse timed = new ServerTimingResponse(response, trips);
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            timed.addServerTiming();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            trips.setName(request.getMethod() + " " + uri);
+            tracker.end(trips);
+            record(request.getMethod(), uri, trips);
+        }
+    }
+
+    private void record(String method, String uri, RoundTrips trips) {
+        DistributionSummary.builder("gamezone.http.mongo.commands")
+                .description("Mongo commands per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(trips.getCommands());
+        Timer.builder("gamezone.http.mongo.time")
+                .description("Time in Mongo commands per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(trips.getNanos(), TimeUnit.NANOSECONDS);
+        if (!trips.getRepeated().isEmpty()) {
+            meterRegistry.counter("gamezone.http.mongo.repeated", "method", method, "uri", uri).increment();
+        }
+    }
+
+    /** Sets the header at the last moment it can still be sent. */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+        private final RoundTrips trips;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, RoundTrips trips) {
+            super(response);
+            this.trips = trips;
+        }
+
+        void addServerTiming() {
+            if (!added && !isCommitted()) {
+                added = true;
+                addHeader(HEADER, trips.serverTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
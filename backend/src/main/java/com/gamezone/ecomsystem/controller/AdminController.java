@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import com.gamezone.ecomsystem.model.Admin;
 import com.gamezone.ecomsystem.service.AdminService;
 import com.gamezone.ecomsystem.dto.AdminLoginRequest;
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
 
 import java.util.HashMap;
@@ -55,9 +56,9 @@ public class AdminController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Admin>> findAll() {
-        List<Admin> admins = adminService.findAll();
-        return ResponseEntity.ok(admins);
+    public ResponseEntity<List<Admin>> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        CursorPage<Admin> page = adminService.findPage(after, limit);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getItems());
     }
 
     @GetMapping("/{id}")
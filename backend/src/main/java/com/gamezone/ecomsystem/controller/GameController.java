@@ -1,14 +1,22 @@
 package com.gamezone.ecomsystem.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.dto.FieldSelection;
 import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.service.CacheInvalidationBus;
+import com.gamezone.ecomsystem.service.CatalogResponseCache;
 import com.gamezone.ecomsystem.service.GameService;
+import com.gamezone.ecomsystem.service.ResourceVersions;
 
-import java.util.List;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
@@ -20,6 +28,12 @@ public class GameController {
     @Autowired
     private GameService service; // <-- Key change: Inject GameService
 
+    @Autowired
+    private ResourceVersions versions;
+
+    @Autowired
+    private CatalogResponseCache responseCache;
+
     @PostMapping
     public ResponseEntity<Game> create(@Valid @RequestBody Game game) {
         Game createdGame = service.create(game);
@@ -27,15 +41,44 @@ public class GameController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Game>> findAll() {
-        List<Game> games = service.findAll();
-        return ResponseEntity.ok(games);
+    public ResponseEntity<byte[]> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding, WebRequest request) {
+        FieldSelection selection = FieldSelection.parse(fields, Game.class);
+        String coding = null;
+        if (responseCache.isBrotliAvailable() && accepts(acceptEncoding, "br")) {
+            coding = "br";
+        } else if (accepts(acceptEncoding, "gzip")) {
+            coding = "gzip";
+        }
+        // Read before the data so it can only be older; each coding is its own representation
+        String etag = ResourceVersions.forCoding(versions.etag(CacheInvalidationBus.GAMES), coding);
+        if (request.checkNotModified(etag)) {
+            return null; // 304, the client's copy is current
+        }
+        // Pre-serialized bytes, copied straight to the response stream
+        CatalogResponseCache.Body body = responseCache.page(after, limit, selection);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (body.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, body.getNextCursor());
+        }
+        if ("br".equals(coding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "br").body(body.getBrotli());
+        }
+        if ("gzip".equals(coding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+        }
+        return response.body(body.getJson());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Game> findById(@PathVariable String id) {
-        Game game = service.findById(id);
-        return ResponseEntity.ok(game);
+    public ResponseEntity<MappingJacksonValue> findById(@PathVariable String id, @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, Game.class);
+        Game game = service.findById(id); // Games live in the in-memory catalog, so only the output is trimmed
+        return ResponseEntity.ok(selection.wrap(game));
     }
 
     @PutMapping("/{id}")
@@ -49,4 +92,18 @@ public class GameController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.trim().split(";");
+            if (params[0].trim().equalsIgnoreCase(coding)) {
+                // "q=0" means the client refuses this coding
+                return params.length < 2 || !params[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
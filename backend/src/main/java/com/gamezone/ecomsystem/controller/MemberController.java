@@ -1,12 +1,12 @@
 package com.gamezone.ecomsystem.controller;
 
-import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,13 +14,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.dto.FieldSelection;
 import com.gamezone.ecomsystem.dto.MemberProfileDto;
 import com.gamezone.ecomsystem.dto.SearchRequestDto;
 import com.gamezone.ecomsystem.dto.UserLoginRequest;
 import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.service.CacheInvalidationBus;
 import com.gamezone.ecomsystem.service.MemberService;
+import com.gamezone.ecomsystem.service.ResourceVersions;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
@@ -32,6 +38,9 @@ public class MemberController {
     @Autowired
     private MemberService service; // <-- Injects the Service, not the Repository
 
+    @Autowired
+    private ResourceVersions versions;
+
     @PostMapping
     public ResponseEntity<Member> create(@Valid @RequestBody Member member) {
         Member createdMember = service.create(member);
@@ -39,15 +48,22 @@ public class MemberController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Member>> findAll() {
-        List<Member> members = service.findAll();
-        return ResponseEntity.ok(members);
+    public ResponseEntity<MappingJacksonValue> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, Member.class);
+        CursorPage<Member> page = service.findPage(after, limit, selection);
+        return ResponseEntity.ok().headers(page.headers()).body(selection.wrap(page.getItems()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Member> findById(@PathVariable String id) {
-        Member member = service.findById(id);
-        return ResponseEntity.ok(member);
+    public ResponseEntity<MappingJacksonValue> findById(@PathVariable String id, @RequestParam(required = false) String fields, WebRequest request) {
+        FieldSelection selection = FieldSelection.parse(fields, Member.class);
+        String etag = versions.etag(CacheInvalidationBus.MEMBERS, id); // Read before the data so it can only be older
+        if (request.checkNotModified(etag)) {
+            return null; // 304, the client's copy is current
+        }
+        Member member = service.findById(id); // Served from the member cache, so only the output is trimmed
+        return ResponseEntity.ok().eTag(etag).body(selection.wrap(member));
     }
 
     @PutMapping("/{id}")
@@ -71,7 +87,7 @@ public class MemberController {
     @PostMapping("/login")
     public ResponseEntity<Map<String, Object>> login(@Valid @RequestBody UserLoginRequest loginRequest) {
         try {
-            Member member = service.findByEmail(loginRequest.getEmail());
+            Member member = service.findForLogin(loginRequest.getEmail());
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -1,9 +1,9 @@
 package com.gamezone.ecomsystem.controller;
 
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,10 +11,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.dto.FieldSelection;
 import com.gamezone.ecomsystem.model.Product;
+import com.gamezone.ecomsystem.service.CacheInvalidationBus;
 import com.gamezone.ecomsystem.service.ProductService;
+import com.gamezone.ecomsystem.service.ResourceVersions;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 @CrossOrigin(origins = "*")
@@ -25,6 +31,9 @@ public class ProductController {
     @Autowired
     private ProductService service; // <-- Key change: Inject ProductService, not Repository
 
+    @Autowired
+    private ResourceVersions versions;
+
     @PostMapping
     public ResponseEntity<Product> create(@RequestBody Product product) {
         Product savedProduct = service.create(product);
@@ -32,15 +41,22 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Product>> findAll() {
-        List<Product> products = service.findAll();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<MappingJacksonValue> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields, WebRequest request) {
+        FieldSelection selection = FieldSelection.parse(fields, Product.class);
+        String etag = versions.etag(CacheInvalidationBus.PRODUCTS); // Read before the data so it can only be older
+        if (request.checkNotModified(etag)) {
+            return null; // 304, the client's copy is current
+        }
+        CursorPage<Product> page = service.findPage(after, limit, selection);
+        return ResponseEntity.ok().eTag(etag).headers(page.headers()).body(selection.wrap(page.getItems()));
     }
 
     @GetMapping(path="/{id}")
-    public ResponseEntity<Product> findById(@PathVariable String id) {
-        Product product = service.findById(id);
-        return ResponseEntity.ok(product);
+    public ResponseEntity<MappingJacksonValue> findById(@PathVariable String id, @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, Product.class);
+        Product product = service.findById(id, selection);
+        return ResponseEntity.ok(selection.wrap(product));
     }
 
     @PutMapping(path="/{id}")
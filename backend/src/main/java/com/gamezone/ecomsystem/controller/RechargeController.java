@@ -1,14 +1,26 @@
 package com.gamezone.ecomsystem.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.gamezone.ecomsystem.dto.BatchResult;
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.service.BatchReader;
+import com.gamezone.ecomsystem.service.ExportService;
+import com.gamezone.ecomsystem.service.RateLimiter;
 import com.gamezone.ecomsystem.service.RechargeService;
 
+import java.io.InputStream;
+import java.util.Date;
 import java.util.List;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 @CrossOrigin(origins = "*")
@@ -19,21 +31,50 @@ public class RechargeController {
     @Autowired
     private RechargeService service; // <-- Injects the Service
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private BatchReader batchReader;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
     @PostMapping
-    public ResponseEntity<Recharge> create(@RequestBody Recharge recharge) {
+    public ResponseEntity<Recharge> create(@RequestBody Recharge recharge, HttpServletRequest request) {
+        rateLimiter.acquire(RateLimiter.RECHARGES, recharge.getMemberId(), request.getRemoteAddr());
         Recharge createdRecharge = service.create(recharge);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdRecharge);
     }
 
+    // A JSON array of up to batch.max-items items, read incrementally rather than bound as a List
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchResult> createBatch(InputStream body, HttpServletRequest request) {
+        List<Recharge> recharges = batchReader.read(body, Recharge.class);
+        rateLimiter.acquireBatch(RateLimiter.RECHARGES, recharges.stream().map(Recharge::getMemberId).toList(), request.getRemoteAddr());
+        BatchResult result = service.createBatch(recharges);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping
-    public ResponseEntity<List<Recharge>> findAll() {
-        List<Recharge> recharges = service.findAll();
-        return ResponseEntity.ok(recharges);
+    public ResponseEntity<List<Recharge>> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        CursorPage<Recharge> page = service.findPage(after, limit);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getItems());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from, @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        exportService.validateRange(from, to); // Fail before the response is committed
+        StreamingResponseBody body = out -> exportService.exportRecharges(from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportService.NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"recharges.ndjson\"")
+                .body(body);
     }
 
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<List<Recharge>> findByMemberId(@PathVariable String memberId) {
-        List<Recharge> recharges = service.findByMemberId(memberId);
-        return ResponseEntity.ok(recharges);
+    public ResponseEntity<List<Recharge>> findByMemberId(@PathVariable String memberId, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        CursorPage<Recharge> page = service.findPageByMemberId(memberId, after, limit);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getItems());
     }
 }
\ No newline at end of file
@@ -1,14 +1,26 @@
 package com.gamezone.ecomsystem.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.gamezone.ecomsystem.dto.BatchResult;
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.service.BatchReader;
+import com.gamezone.ecomsystem.service.ExportService;
+import com.gamezone.ecomsystem.service.RateLimiter;
 import com.gamezone.ecomsystem.service.TransactionService;
 
+import java.io.InputStream;
+import java.util.Date;
 import java.util.List;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 @CrossOrigin(origins = "*")
@@ -19,21 +31,50 @@ public class TransactionController {
     @Autowired
     private TransactionService service; // <-- Injects the Service
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private BatchReader batchReader;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
     @PostMapping
-    public ResponseEntity<Transaction> create(@RequestBody Transaction transaction) {
+    public ResponseEntity<Transaction> create(@RequestBody Transaction transaction, HttpServletRequest request) {
+        rateLimiter.acquire(RateLimiter.TRANSACTIONS, transaction.getMemberId(), request.getRemoteAddr());
         Transaction createdTransaction = service.create(transaction);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTransaction);
     }
 
+    // A JSON array of up to batch.max-items items, read incrementally rather than bound as a List
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchResult> createBatch(InputStream body, HttpServletRequest request) {
+        List<Transaction> transactions = batchReader.read(body, Transaction.class);
+        rateLimiter.acquireBatch(RateLimiter.TRANSACTIONS, transactions.stream().map(Transaction::getMemberId).toList(), request.getRemoteAddr());
+        BatchResult result = service.createBatch(transactions);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping
-    public ResponseEntity<List<Transaction>> findAll() {
-        List<Transaction> transactions = service.findAll();
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<List<Transaction>> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        CursorPage<Transaction> page = service.findPage(after, limit);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getItems());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from, @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        exportService.validateRange(from, to); // Fail before the response is committed
+        StreamingResponseBody body = out -> exportService.exportTransactions(from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportService.NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\"")
+                .body(body);
     }
 
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<List<Transaction>> findByMemberId(@PathVariable String memberId) {
-        List<Transaction> transactions = service.findByMemberId(memberId);
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<List<Transaction>> findByMemberId(@PathVariable String memberId, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        CursorPage<Transaction> page = service.findPageByMemberId(memberId, after, limit);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getItems());
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.gamezone.ecomsystem.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.model.LedgerEntry;
+import com.gamezone.ecomsystem.service.WalletService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.bind.annotation.CrossOrigin;
+
+@CrossOrigin(origins = "*")
+@RestController
+@RequestMapping("/wallet")
+public class WalletController {
+
+    @Autowired
+    private WalletService service;
+
+    @GetMapping("/member/{memberId}/ledger")
+    public ResponseEntity<List<LedgerEntry>> getLedger(@PathVariable String memberId, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        CursorPage<LedgerEntry> page = service.getLedgerPage(memberId, after, limit);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getItems());
+    }
+
+    @GetMapping("/member/{memberId}/audit")
+    public ResponseEntity<Map<String, Object>> audit(@PathVariable String memberId) {
+        Map<String, Object> audit = new HashMap<>();
+        audit.put("memberId", memberId);
+        audit.put("balance", service.getBalance(memberId));
+        audit.put("replayedBalance", service.replay(memberId));
+        return ResponseEntity.ok(audit);
+    }
+
+    @PostMapping("/member/{memberId}/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(@PathVariable String memberId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("memberId", memberId);
+        response.put("balance", service.rebuild(memberId));
+        return ResponseEntity.ok(response);
+    }
+}
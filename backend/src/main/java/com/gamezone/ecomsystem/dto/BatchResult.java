@@ -0,0 +1,61 @@
+package com.gamezone.ecomsystem.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch write: one entry per submitted item, in submission
+ * order. Items succeed or fail on their own, a failed item never rolls back
+ * the others.
+ */
+public class BatchResult {
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    private final int received;
+    private final int created;
+    private final int failed;
+    private final List<Item> items;
+
+    public BatchResult(String[] ids, String[] errors) {
+        List<Item> results = new ArrayList<>(ids.length);
+        int ok = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (errors[i] == null) {
+                results.add(new Item(i, CREATED, ids[i], null));
+                ok++;
+            } else {
+                results.add(new Item(i, FAILED, null, errors[i]));
+            }
+        }
+        this.received = ids.length;
+        this.created = ok;
+        this.failed = ids.length - ok;
+        this.items = Collections.unmodifiableList(results);
+    }
+
+    public int getReceived() { return received; }
+    public int getCreated() { return created; }
+    public int getFailed() { return failed; }
+    public List<Item> getItems() { return items; }
+
+    public static class Item {
+        private final int index;
+        private final String status;
+        private final String id;
+        private final String error;
+
+        public Item(int index, String status, String id, String error) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.error = error;
+        }
+
+        public int getIndex() { return index; }
+        public String getStatus() { return status; }
+        public String getId() { return id; }
+        public String getError() { return error; }
+    }
+}
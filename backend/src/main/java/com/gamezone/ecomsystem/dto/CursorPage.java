@@ -0,0 +1,104 @@
+package com.gamezone.ecomsystem.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+
+import com.gamezone.ecomsystem.exception.BusinessException;
+
+/**
+ * One page of a keyset-paginated list. Pages are keyed on {@code _id}, or on
+ * the per-member sequence for the wallet ledger, so a page costs the same
+ * index range scan however deep into the collection it is.
+ * The items go out as the response body and the cursor for the next page as
+ * the {@value #NEXT_CURSOR_HEADER} header, which keeps list responses plain arrays.
+ */
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    // Cursors that sort before/after every ObjectId, used for the first page
+    private static final String MIN_CURSOR = "000000000000000000000000";
+    private static final String MAX_CURSOR = "ffffffffffffffffffffffff";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds the page from a query that fetched at most {@code limit} items.
+     * A full page means there may be more, so its last id becomes the cursor.
+     */
+    public static <T> CursorPage<T> of(List<T> items, int limit, Function<T, String> idOf) {
+        String next = items.size() == limit ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, next);
+    }
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new BusinessException("Limit must be at least 1.");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /** Cursor for ascending pages: only ids greater than this are returned. */
+    public static String ascendingCursor(String after) {
+        return after == null ? MIN_CURSOR : validate(after);
+    }
+
+    /** Cursor for newest-first pages: only ids less than this are returned. */
+    public static String descendingCursor(String after) {
+        return after == null ? MAX_CURSOR : validate(after);
+    }
+
+    /** Cursor for ledger pages: only sequences greater than this are returned. */
+    public static long sequenceCursor(String after) {
+        if (after == null) {
+            return 0; // Sequences start at 1
+        }
+        try {
+            return Long.parseLong(after);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid cursor: " + after);
+        }
+    }
+
+    public static Pageable request(int limit, Sort.Direction direction) {
+        return request(limit, direction, "id");
+    }
+
+    public static Pageable request(int limit, Sort.Direction direction, String key) {
+        return PageRequest.of(0, limit, Sort.by(direction, key));
+    }
+
+    private static String validate(String cursor) {
+        if (!ObjectId.isValid(cursor)) {
+            throw new BusinessException("Invalid cursor: " + cursor);
+        }
+        return cursor;
+    }
+
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.set(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return headers;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+}
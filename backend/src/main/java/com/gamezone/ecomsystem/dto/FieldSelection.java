@@ -0,0 +1,105 @@
+package com.gamezone.ecomsystem.dto;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.gamezone.ecomsystem.exception.BusinessException;
+
+/**
+ * Sparse fieldset requested with {@code ?fields=name,price}. The same
+ * selection drives the Mongo projection, so unselected fields are never
+ * decoded, and the JSON filter, so they are not written as nulls or defaults.
+ * The id is always included. Without the parameter everything is selected.
+ */
+public final class FieldSelection {
+    public static final String FILTER_ID = "fieldSelection";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+    private static final Map<Class<?>, Set<String>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final SortedSet<String> fields;
+
+    private FieldSelection(SortedSet<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> known = PROPERTIES.computeIfAbsent(type, FieldSelection::propertiesOf);
+        SortedSet<String> selected = new TreeSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!known.contains(name)) {
+                throw new BusinessException("Unknown field '" + name + "'. Allowed fields: " + String.join(", ", known));
+            }
+            selected.add(name);
+        }
+        return new FieldSelection(Collections.unmodifiableSortedSet(selected));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /** Restricts the query to the selected fields. */
+    public Query project(Query query) {
+        if (!isAll()) {
+            query.fields().include(fields.toArray(String[]::new));
+        }
+        return query;
+    }
+
+    public FilterProvider filters() {
+        return new SimpleFilterProvider().addFilter(FILTER_ID,
+                isAll() ? SimpleBeanPropertyFilter.serializeAll() : SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+
+    /** Response body that serializes only the selected fields. */
+    public MappingJacksonValue wrap(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters());
+        return value;
+    }
+
+    /** Stable text form, for cache keys. */
+    public String key() {
+        return isAll() ? "*" : String.join(",", fields);
+    }
+
+    private static Set<String> propertiesOf(Class<?> type) {
+        SortedSet<String> properties = new TreeSet<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())
+                    || field.isAnnotationPresent(JsonIgnore.class)
+                    || field.isAnnotationPresent(Transient.class)) {
+                continue;
+            }
+            properties.add(field.getName());
+        }
+        return Collections.unmodifiableSortedSet(properties);
+    }
+}
@@ -1,5 +1,8 @@
 package com.gamezone.ecomsystem.exception;
 
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,8 +14,27 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.gamezone.ecomsystem.model.Admin;
+import com.gamezone.ecomsystem.model.Member;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteError;
+import com.mongodb.bulk.BulkWriteError;
+
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+
+    // Unique index -> message when creating (POST) and when updating
+    private static final Map<String, String[]> DUPLICATE_KEY_MESSAGES = Map.of(
+        Member.PHONE_NUMBER_INDEX, new String[] { "Phone number already exists.", "Phone number already exists for another member." },
+        Member.EMAIL_INDEX, new String[] { "Email already exists.", "Email already exists for another member." },
+        Admin.USERNAME_INDEX, new String[] { "Username already exists", "Username already exists" },
+        Admin.EMAIL_INDEX, new String[] { "Email already exists", "Email already exists" }
+    );
     
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
@@ -34,6 +56,80 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
     
+    /**
+     * Uniqueness is left to the unique indexes, so a taken phone number,
+     * email or username surfaces here as a duplicate-key error and gets the
+     * same 400 response a BusinessException would.
+     */
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateKey(DuplicateKeyException ex, HttpServletRequest request) {
+        return handleBusiness(new BusinessException(duplicateKeyMessage(ex, HttpMethod.POST.matches(request.getMethod()))));
+    }
+
+    static String duplicateKeyMessage(DuplicateKeyException ex, boolean creating) {
+        String index = violatedIndex(ex);
+        String[] messages = index == null ? null : DUPLICATE_KEY_MESSAGES.get(index);
+        if (messages == null) {
+            return "A record with the same unique value already exists.";
+        }
+        return messages[creating ? 0 : 1];
+    }
+
+    /**
+     * Name of the unique index the write hit, taken from the driver's error
+     * for that write (a WriteError, or the findAndModify command error)
+     * rather than from the translated exception's text. The server puts the
+     * index name in the error message only: "... index: member_phone_unique
+     * dup key: { ... }".
+     */
+    static String violatedIndex(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoWriteException write) {
+                return indexOf(write.getError());
+            }
+            if (cause instanceof MongoBulkWriteException bulk) {
+                for (BulkWriteError error : bulk.getWriteErrors()) {
+                    if (error.getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                        return indexOf(error);
+                    }
+                }
+                return null;
+            }
+            if (cause instanceof MongoCommandException command) {
+                return ErrorCategory.fromErrorCode(command.getErrorCode()) == ErrorCategory.DUPLICATE_KEY
+                        ? indexName(command.getErrorMessage())
+                        : null;
+            }
+        }
+        return null;
+    }
+
+    private static String indexOf(WriteError error) {
+        return error.getCategory() == ErrorCategory.DUPLICATE_KEY ? indexName(error.getMessage()) : null;
+    }
+
+    private static String indexName(String errorMessage) {
+        int start = errorMessage == null ? -1 : errorMessage.indexOf(" index: ");
+        if (start < 0) {
+            return null;
+        }
+        start += " index: ".length();
+        int end = errorMessage.indexOf(' ', start);
+        return end < 0 ? errorMessage.substring(start) : errorMessage.substring(start, end);
+    }
+    
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimit(RateLimitExceededException ex) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,59 @@
+package com.gamezone.ecomsystem.logging;
+
+import java.util.Iterator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes what the logging pipeline threw away: logging.events.dropped
+ * (ring buffer full, by level band), logging.events.suppressed (call-site
+ * rate limit) and the buffer fill as logging.buffer.size.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        for (Iterator<Appender<ILoggingEvent>> it = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders(); it.hasNext();) {
+            if (it.next() instanceof RingBufferAppender buffer) {
+                FunctionCounter.builder("logging.events.dropped", buffer, b -> b.getDropped(Level.INFO))
+                        .description("Log events dropped because the buffer was full")
+                        .tag("appender", buffer.getName())
+                        .tag("level", "info")
+                        .register(registry);
+                FunctionCounter.builder("logging.events.dropped", buffer, b -> b.getDropped(Level.WARN))
+                        .description("Log events dropped because the buffer was full")
+                        .tag("appender", buffer.getName())
+                        .tag("level", "warn")
+                        .register(registry);
+                Gauge.builder("logging.buffer.size", buffer, RingBufferAppender::size)
+                        .description("Log events waiting to be written")
+                        .tag("appender", buffer.getName())
+                        .register(registry);
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                FunctionCounter.builder("logging.events.suppressed", sampling, SamplingTurboFilter::getSuppressed)
+                        .description("Log events held back by the per-call-site rate limit")
+                        .register(registry);
+            }
+        }
+    }
+}
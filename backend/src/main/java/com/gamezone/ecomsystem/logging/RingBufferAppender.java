@@ -0,0 +1,198 @@
+package com.gamezone.ecomsystem.logging;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+/**
+ * Hands log events to a background writer through a bounded ring buffer, so
+ * the calling thread never waits on console or file I/O.
+ *
+ * Producers claim a slot with a single CAS (no locks, so no pinned virtual
+ * threads either). When the buffer is full the event is dropped and counted
+ * rather than blocking the caller; see {@link #getDropped(Level)}. One
+ * daemon thread drains the buffer in order into the attached appenders and
+ * backs off briefly when idle. On stop, whatever is buffered is flushed for
+ * up to maxFlushTime milliseconds.
+ *
+ * Message arguments, MDC and the thread name are captured on the calling
+ * thread; caller data (file and line) is not.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder droppedInfo = new LongAdder(); // INFO and below
+    private final LongAdder droppedWarn = new LongAdder(); // WARN and ERROR
+
+    private int capacity = 8192;
+    private int maxFlushTime = 1000;
+
+    private int mask;
+    private AtomicReferenceArray<ILoggingEvent> slots;
+    private AtomicLongArray sequences;
+    private long head; // Only the writer thread moves it
+    private Thread writer;
+
+    /** Slots in the buffer, rounded up to a power of two. */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        slots = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        head = 0;
+        tail.set(0);
+        super.start();
+        writer = new Thread(this::drain, "log-writer-" + getName());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop(); // The writer sees this, flushes what is left and exits
+        LockSupport.unpark(writer);
+        try {
+            writer.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("Log writer did not flush within " + maxFlushTime + " ms, " + size() + " events lost");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (!offer(event)) {
+            (event.getLevel().isGreaterOrEqual(Level.WARN) ? droppedWarn : droppedInfo).increment();
+        }
+    }
+
+    /** Events dropped because the buffer was full, at the given level band (INFO and below, or WARN and above). */
+    public long getDropped(Level level) {
+        return (level.isGreaterOrEqual(Level.WARN) ? droppedWarn : droppedInfo).sum();
+    }
+
+    /** Events waiting for the writer. */
+    public int size() {
+        return slots == null ? 0 : (int) Math.max(0, tail.get() - head);
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    private boolean offer(ILoggingEvent event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1); // Publishes the slot to the writer
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false; // The writer has not freed this slot yet: full
+            }
+            // Another producer claimed the slot first, try the next one
+        }
+    }
+
+    private ILoggingEvent poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        ILoggingEvent event = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + mask + 1); // Free for the producer one lap ahead
+        head++;
+        return event;
+    }
+
+    private void drain() {
+        long idleNanos = 1000;
+        while (true) {
+            ILoggingEvent event = poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                idleNanos = 1000;
+            } else if (!isStarted()) {
+                return; // Stopped and empty
+            } else {
+                LockSupport.parkNanos(idleNanos);
+                idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+            }
+        }
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
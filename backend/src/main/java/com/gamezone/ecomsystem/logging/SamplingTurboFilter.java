@@ -0,0 +1,96 @@
+package com.gamezone.ecomsystem.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Rate limits high-frequency log statements per call site, before the
+ * event is even built.
+ *
+ * A call site is a logger plus its message pattern, so
+ * {@code log.info("Finding member by id: {}", id)} is one site whatever the
+ * id. Each site may log ratePerSecond events per second; past that only
+ * every sampleEvery-th event gets through and the rest are counted as
+ * suppressed (see {@link #getSuppressed()}). Events above maxLevel (WARN and
+ * ERROR by default) are never limited. At most maxSites sites are tracked;
+ * statements beyond that are not limited.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private int ratePerSecond = 50;
+    private int sampleEvery = 100;
+    private Level maxLevel = Level.INFO;
+    private int maxSites = 10_000;
+
+    private final Map<Site, SiteWindow> sites = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    public void setRatePerSecond(int ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    public void setMaxSites(int maxSites) {
+        this.maxSites = maxSites;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive without a format; disabled levels are left to the logger
+        if (format == null || level == null || level.toInt() > maxLevel.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Site key = new Site(logger.getName(), format);
+        SiteWindow window = sites.get(key);
+        if (window == null) {
+            if (sites.size() >= maxSites) {
+                return FilterReply.NEUTRAL;
+            }
+            window = sites.computeIfAbsent(key, k -> new SiteWindow());
+        }
+        if (window.admit(System.nanoTime() / 1_000_000_000L, ratePerSecond, sampleEvery)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    /** Events held back by the rate limit since startup. */
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    private record Site(String logger, String format) {
+    }
+
+    /** Events of one site in the current one-second window. */
+    private static final class SiteWindow {
+        private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong count = new AtomicLong();
+
+        boolean admit(long now, int ratePerSecond, int sampleEvery) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            long n = count.incrementAndGet();
+            return n <= ratePerSecond || (n - ratePerSecond) % sampleEvery == 0;
+        }
+    }
+}
@@ -1,23 +1,31 @@
 package com.gamezone.ecomsystem.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "admin")
+@CompoundIndex(name = "username_active", def = "{'username': 1, 'isActive': 1}") // Also serves findByUsername
 public class Admin {
+    // Unique index names, GlobalExceptionHandler maps duplicate-key errors by them
+    public static final String USERNAME_INDEX = "admin_username_unique";
+    public static final String EMAIL_INDEX = "admin_email_unique";
 
     @Id
     private String id;
     
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 20, message = "Username must be between 3 and 20 characters")
+    @Indexed(name = USERNAME_INDEX, unique = true)
     private String username;
     
     @NotBlank(message = "Email is required")
     @Email(message = "Invalid email format")
+    @Indexed(name = EMAIL_INDEX, unique = true)
     private String email;
     
     @NotBlank(message = "Full name is required")
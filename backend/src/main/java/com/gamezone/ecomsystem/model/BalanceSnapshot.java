@@ -0,0 +1,65 @@
+package com.gamezone.ecomsystem.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Checkpoint of a member's balance after all ledger entries up to and
+ * including {@code sequence}. Sequence 0 is the opening balance the member
+ * had before their first ledger entry.
+ */
+@Document(collection = "balance_snapshots")
+@CompoundIndex(name = "member_sequence", def = "{'memberId': 1, 'sequence': -1}", unique = true)
+public class BalanceSnapshot {
+
+    @Id
+    private String id;
+    private String memberId;
+    private long sequence;
+    private double balance;
+    private Date date;
+
+    // Constructors
+    public BalanceSnapshot() {}
+
+    public BalanceSnapshot(String memberId, long sequence, double balance) {
+        this.memberId = memberId;
+        this.sequence = sequence;
+        this.balance = balance;
+        this.date = new Date();
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+    public String getMemberId() {
+        return memberId;
+    }
+    public void setMemberId(String memberId) {
+        this.memberId = memberId;
+    }
+    public long getSequence() {
+        return sequence;
+    }
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    public double getBalance() {
+        return balance;
+    }
+    public void setBalance(double balance) {
+        this.balance = balance;
+    }
+    public Date getDate() {
+        return date;
+    }
+    public void setDate(Date date) {
+        this.date = date;
+    }
+}
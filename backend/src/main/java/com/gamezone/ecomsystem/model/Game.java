@@ -1,6 +1,8 @@
 package com.gamezone.ecomsystem.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -8,6 +10,7 @@ import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
 
 @Document(collection = "games")
+@CompoundIndex(name = "status_genre", def = "{'status': 1, 'genre': 1}") // Also serves findByStatus
 public class Game {
 
     @Id
@@ -20,6 +23,7 @@ public class Game {
     @NotNull(message = "Price is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than 0")
     @DecimalMax(value = "10000.0", message = "Price cannot exceed 10000")
+    @Indexed
     private double price;
     
     @NotBlank(message = "Description is required")
@@ -27,6 +31,7 @@ public class Game {
     private String description;
     
     @NotBlank(message = "Genre is required")
+    @Indexed
     private String genre;
     
     @Pattern(regexp = "ACTIVE|INACTIVE|MAINTENANCE", message = "Status must be ACTIVE, INACTIVE, or MAINTENANCE")
@@ -34,6 +39,7 @@ public class Game {
     
     private String imageUrl; // Add image URL field
     
+    @Indexed
     private String platform; // Add platform field
     
     @Min(value = 0, message = "Minimum age cannot be negative")
@@ -0,0 +1,100 @@
+package com.gamezone.ecomsystem.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Append-only record of a single change to a member's balance.
+ * Entries are never updated or deleted; corrections are new entries.
+ */
+@Document(collection = "ledger")
+@CompoundIndex(name = "member_sequence", def = "{'memberId': 1, 'sequence': 1}", unique = true)
+public class LedgerEntry {
+
+    public static final String DEBIT = "DEBIT";
+    public static final String CREDIT = "CREDIT";
+
+    public static final String REF_TRANSACTION = "TRANSACTION";
+    public static final String REF_RECHARGE = "RECHARGE";
+    public static final String REF_ADJUSTMENT = "ADJUSTMENT";
+    public static final String REF_REVERSAL = "REVERSAL";
+
+    @Id
+    private String id;
+    private String memberId;
+    private long sequence; // Per-member, strictly increasing
+    private String type; // DEBIT or CREDIT
+    private double amount; // Always positive, the type gives the direction
+    private String referenceType;
+    private String referenceId; // Id of the transaction or recharge that caused this entry
+    private Date date;
+
+    // Constructors
+    public LedgerEntry() {}
+
+    public LedgerEntry(String memberId, long sequence, String type, double amount, String referenceType, String referenceId) {
+        this.memberId = memberId;
+        this.sequence = sequence;
+        this.type = type;
+        this.amount = amount;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+        this.date = new Date();
+    }
+
+    public double signedAmount() {
+        return DEBIT.equals(type) ? -amount : amount;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+    public String getMemberId() {
+        return memberId;
+    }
+    public void setMemberId(String memberId) {
+        this.memberId = memberId;
+    }
+    public long getSequence() {
+        return sequence;
+    }
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    public String getType() {
+        return type;
+    }
+    public void setType(String type) {
+        this.type = type;
+    }
+    public double getAmount() {
+        return amount;
+    }
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+    public String getReferenceType() {
+        return referenceType;
+    }
+    public void setReferenceType(String referenceType) {
+        this.referenceType = referenceType;
+    }
+    public String getReferenceId() {
+        return referenceId;
+    }
+    public void setReferenceId(String referenceId) {
+        this.referenceId = referenceId;
+    }
+    public Date getDate() {
+        return date;
+    }
+    public void setDate(Date date) {
+        this.date = date;
+    }
+}
@@ -4,13 +4,18 @@ import java.util.Date;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.*;
 
 @Document(collection = "members")
 public class Member {
+    // Unique index names, GlobalExceptionHandler maps duplicate-key errors by them
+    public static final String PHONE_NUMBER_INDEX = "member_phone_unique";
+    public static final String EMAIL_INDEX = "member_email_unique";
 
     @Id
     private String id;
@@ -21,17 +26,23 @@ public class Member {
     
     @NotBlank(message = "Phone number is required")
     @Pattern(regexp = "\\d{10}", message = "Phone number must be exactly 10 digits")
+    @Indexed(name = PHONE_NUMBER_INDEX, unique = true, sparse = true) // Sparse: only documents that have the field take part
     private String phoneNumber;
     
     @NotBlank(message = "Email is required")
     @Email(message = "Invalid email format")
+    @Indexed(name = EMAIL_INDEX, unique = true, sparse = true)
     private String email;
     
     @DecimalMin(value = "0.0", message = "Balance cannot be negative")
     @DecimalMax(value = "100000.0", message = "Balance cannot exceed 100000")
-    private double balance = 0.0; // Default balance
+    private double balance = 0.0; // Default balance, a projection of the wallet ledger
+    
+    @JsonIgnore
+    private long ledgerSequence; // Sequence of the last ledger entry applied to balance
     
     private Date joiningDate = new Date(); // Default to current date
+    @Indexed
     private boolean active = true; // Default to active
     
     private String address; // Add address field
@@ -83,6 +94,12 @@ public class Member {
     public void setBalance(double balance) {
         this.balance = balance;
     }
+    public long getLedgerSequence() {
+        return ledgerSequence;
+    }
+    public void setLedgerSequence(long ledgerSequence) {
+        this.ledgerSequence = ledgerSequence;
+    }
     public Date getJoiningDate() {
         return joiningDate;
     }
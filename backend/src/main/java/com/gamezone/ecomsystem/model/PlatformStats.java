@@ -0,0 +1,83 @@
+package com.gamezone.ecomsystem.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Running platform totals for the admin dashboard. There is a single
+ * document, kept current with $inc as members, games, transactions and
+ * recharges are written.
+ */
+@Document(collection = "platform_stats")
+public class PlatformStats {
+
+    public static final String ID = "platform";
+
+    @Id
+    private String id = ID;
+    private long totalMembers;
+    private long totalGames;
+    private long totalTransactions;
+    private long totalRecharges;
+    private double totalRevenue;
+    private double totalRechargeAmount;
+    private long activeMembers; // Members with balance > 0
+    private Date rebuiltAt;
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+    public long getTotalMembers() {
+        return totalMembers;
+    }
+    public void setTotalMembers(long totalMembers) {
+        this.totalMembers = totalMembers;
+    }
+    public long getTotalGames() {
+        return totalGames;
+    }
+    public void setTotalGames(long totalGames) {
+        this.totalGames = totalGames;
+    }
+    public long getTotalTransactions() {
+        return totalTransactions;
+    }
+    public void setTotalTransactions(long totalTransactions) {
+        this.totalTransactions = totalTransactions;
+    }
+    public long getTotalRecharges() {
+        return totalRecharges;
+    }
+    public void setTotalRecharges(long totalRecharges) {
+        this.totalRecharges = totalRecharges;
+    }
+    public double getTotalRevenue() {
+        return totalRevenue;
+    }
+    public void setTotalRevenue(double totalRevenue) {
+        this.totalRevenue = totalRevenue;
+    }
+    public double getTotalRechargeAmount() {
+        return totalRechargeAmount;
+    }
+    public void setTotalRechargeAmount(double totalRechargeAmount) {
+        this.totalRechargeAmount = totalRechargeAmount;
+    }
+    public long getActiveMembers() {
+        return activeMembers;
+    }
+    public void setActiveMembers(long activeMembers) {
+        this.activeMembers = activeMembers;
+    }
+    public Date getRebuiltAt() {
+        return rebuiltAt;
+    }
+    public void setRebuiltAt(Date rebuiltAt) {
+        this.rebuiltAt = rebuiltAt;
+    }
+}
@@ -1,10 +1,14 @@
 package com.gamezone.ecomsystem.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
 
 @Document(collection = "recharges")
+@CompoundIndex(name = "member_date", def = "{'memberId': 1, 'date': -1}") // Also serves findByMemberId
+@CompoundIndex(name = "member_id", def = "{'memberId': 1, '_id': -1}") // Keyset pages of one member's history
 public class Recharge {
 
     @Id
@@ -12,6 +16,7 @@ public class Recharge {
     private String memberId;
     private double amount;
     private String paymentMethod;
+    @Indexed
     private Date date;
 
     // Constructors
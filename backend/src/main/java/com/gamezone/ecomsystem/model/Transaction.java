@@ -1,17 +1,23 @@
 package com.gamezone.ecomsystem.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
 
 @Document(collection = "transactions")
+@CompoundIndex(name = "member_date", def = "{'memberId': 1, 'date': -1}") // Also serves findByMemberId
+@CompoundIndex(name = "member_id", def = "{'memberId': 1, '_id': -1}") // Keyset pages of one member's history
 public class Transaction {
 
     @Id
     private String id;
     private String memberId;
+    @Indexed
     private String gameId;
     private double amount;
+    @Indexed
     private Date date;
 
     // Constructors
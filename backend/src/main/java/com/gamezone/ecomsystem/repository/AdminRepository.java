@@ -1,6 +1,8 @@
 package com.gamezone.ecomsystem.repository;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import com.gamezone.ecomsystem.model.Admin;
 
@@ -8,4 +10,5 @@ public interface AdminRepository extends MongoRepository<Admin, String> {
     Optional<Admin> findByUsername(String username);
     Optional<Admin> findByEmail(String email);
     Optional<Admin> findByUsernameAndIsActive(String username, boolean isActive);
+    List<Admin> findByIdGreaterThan(String id, Pageable pageable);
 }
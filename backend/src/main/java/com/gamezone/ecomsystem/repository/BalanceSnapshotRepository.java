@@ -0,0 +1,13 @@
+package com.gamezone.ecomsystem.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.gamezone.ecomsystem.model.BalanceSnapshot;
+
+import java.util.Optional;
+
+public interface BalanceSnapshotRepository extends MongoRepository<BalanceSnapshot, String> {
+    Optional<BalanceSnapshot> findFirstByMemberIdOrderBySequenceDesc(String memberId);
+    Optional<BalanceSnapshot> findByMemberIdAndSequence(String memberId, long sequence);
+    void deleteByMemberIdAndSequenceGreaterThanEqual(String memberId, long sequence);
+}
@@ -1,6 +1,7 @@
 package com.gamezone.ecomsystem.repository;
 
 import com.gamezone.ecomsystem.model.Game;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import java.util.List; // <-- Make sure this is imported
 
@@ -12,5 +13,6 @@ public interface GameRepository extends MongoRepository<Game, String> {
     List<Game> findByNameContainingIgnoreCase(String name);
     List<Game> findByPriceBetween(double minPrice, double maxPrice);
     List<Game> findByStatusAndGenre(String status, String genre);
+    List<Game> findByIdGreaterThan(String id, Pageable pageable);
     
 }
\ No newline at end of file
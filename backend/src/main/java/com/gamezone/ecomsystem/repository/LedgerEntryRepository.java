@@ -0,0 +1,16 @@
+package com.gamezone.ecomsystem.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.gamezone.ecomsystem.model.LedgerEntry;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LedgerEntryRepository extends MongoRepository<LedgerEntry, String> {
+    Optional<LedgerEntry> findByMemberIdAndSequence(String memberId, long sequence);
+    List<LedgerEntry> findByMemberIdOrderBySequenceAsc(String memberId);
+    List<LedgerEntry> findByMemberIdAndSequenceGreaterThanOrderBySequenceAsc(String memberId, long sequence);
+    List<LedgerEntry> findByMemberIdAndSequenceGreaterThan(String memberId, long sequence, Pageable pageable);
+}
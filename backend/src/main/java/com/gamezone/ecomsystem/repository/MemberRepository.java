@@ -3,13 +3,20 @@ package com.gamezone.ecomsystem.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import com.gamezone.ecomsystem.model.Member;
 
-public interface MemberRepository extends MongoRepository<Member, String> {
+public interface MemberRepository extends MongoRepository<Member, String>, MemberRepositoryCustom {
 	Optional<Member> findByPhoneNumber(String phoneNumber);
 	Optional<Member> findByEmail(String email);
 	List<Member> findByActive(boolean active);
 	List<Member> findByNameContainingIgnoreCase(String name);
+	List<Member> findByIdGreaterThan(String id, Pageable pageable);
+
+	// Login returns only this summary, so the rest of the profile is never decoded
+	@Query(value = "{ 'email': ?0 }", fields = "{ 'name': 1, 'email': 1, 'phoneNumber': 1, 'balance': 1, 'role': 1 }")
+	Optional<Member> findLoginByEmail(String email);
 }
\ No newline at end of file
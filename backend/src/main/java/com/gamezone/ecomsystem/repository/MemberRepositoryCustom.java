@@ -0,0 +1,88 @@
+package com.gamezone.ecomsystem.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.gamezone.ecomsystem.model.Member;
+
+/**
+ * Atomic wallet operations on the member balance. Each call is a single
+ * findAndModify round trip, so concurrent purchases and recharges for the
+ * same member can never overwrite each other.
+ *
+ * Every balance change also allocates the next ledger sequence for the
+ * member. The returned member only carries {@code balance} and
+ * {@code ledgerSequence}.
+ */
+public interface MemberRepositoryCustom {
+
+    /**
+     * Debits the balance only if it covers the amount.
+     * Returns empty if the member does not exist or the balance is insufficient.
+     */
+    Optional<Member> debitBalance(String memberId, double amount);
+
+    /**
+     * Credits the balance. Returns empty if the member does not exist.
+     */
+    Optional<Member> creditBalance(String memberId, double amount);
+
+    /**
+     * Moves the balance alone, without allocating a ledger sequence. Only
+     * for taking back a change whose ledger entry could not be written.
+     */
+    void adjustBalance(String memberId, double delta);
+
+    /**
+     * Overwrites the balance and ledger sequence, used when the projection
+     * is rebuilt from the ledger.
+     */
+    void resetBalance(String memberId, double balance, long ledgerSequence);
+
+    /**
+     * Writes the profile fields of the member without touching the balance
+     * or ledger sequence, so an update can never clobber a concurrent purchase.
+     */
+    Member updateProfile(Member member);
+
+    /**
+     * Balance and ledger sequence of each member that exists, in one query.
+     */
+    List<Member> findWallets(Collection<String> memberIds);
+
+    /**
+     * Applies many members' net balance changes in one unordered bulk write.
+     * Each member is only updated if its ledger sequence is still the one the
+     * change was computed from and its balance still covers the debits in it.
+     * Returns how many members were updated; a bulk result does not say which.
+     */
+    int applyWalletUpdates(List<WalletUpdate> updates);
+
+    /**
+     * Net change to one member's wallet, computed from the balance and
+     * sequence read by {@link #findWallets(Collection)}.
+     */
+    final class WalletUpdate {
+        private final Member read;
+        private final double delta;
+        private final int entries;
+        private final double required;
+
+        /**
+         * {@code required} is the lowest balance the changes can start from
+         * without any debit among them overdrawing.
+         */
+        public WalletUpdate(Member read, double delta, int entries, double required) {
+            this.read = read;
+            this.delta = delta;
+            this.entries = entries;
+            this.required = required;
+        }
+
+        public Member getRead() { return read; }
+        public double getDelta() { return delta; }
+        public int getEntries() { return entries; }
+        public double getRequired() { return required; }
+    }
+}
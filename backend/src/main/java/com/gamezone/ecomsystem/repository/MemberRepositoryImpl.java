@@ -0,0 +1,122 @@
+package com.gamezone.ecomsystem.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.gamezone.ecomsystem.model.Member;
+
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+    private static final Logger log = LoggerFactory.getLogger(MemberRepositoryImpl.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Member> debitBalance(String memberId, double amount) {
+        Query query = new Query(Criteria.where("_id").is(memberId).and("balance").gte(amount));
+        return incrementBalance(query, -amount);
+    }
+
+    @Override
+    public Optional<Member> creditBalance(String memberId, double amount) {
+        Query query = new Query(Criteria.where("_id").is(memberId));
+        return incrementBalance(query, amount);
+    }
+
+    @Override
+    public void adjustBalance(String memberId, double delta) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(memberId)),
+                new Update().inc("balance", delta),
+                Member.class);
+    }
+
+    @Override
+    public void resetBalance(String memberId, double balance, long ledgerSequence) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(memberId)),
+                new Update().set("balance", balance).set("ledgerSequence", ledgerSequence),
+                Member.class);
+    }
+
+    @Override
+    public Member updateProfile(Member member) {
+        Update update = new Update()
+                .set("name", member.getName())
+                .set("phoneNumber", member.getPhoneNumber())
+                .set("email", member.getEmail())
+                .set("active", member.isActive())
+                .set("address", member.getAddress())
+                .set("city", member.getCity())
+                .set("state", member.getState())
+                .set("zipCode", member.getZipCode())
+                .set("country", member.getCountry())
+                .set("gender", member.getGender())
+                .set("dateOfBirth", member.getDateOfBirth())
+                .set("profileImageUrl", member.getProfileImageUrl());
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(member.getId())),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Member.class);
+    }
+
+    @Override
+    public List<Member> findWallets(Collection<String> memberIds) {
+        Query query = new Query(Criteria.where("_id").in(memberIds));
+        query.fields().include("balance").include("ledgerSequence");
+        return mongoTemplate.find(query, Member.class);
+    }
+
+    /*
+     * Each update matches on the id and the sequence it was computed from, so
+     * a wallet that moved in the meantime, or a member deleted since it was
+     * read, simply matches nothing. The balance only has to cover what the
+     * planned debits need, as in debitBalance, so a take-back that moved the
+     * balance alone does not hold the update up.
+     */
+    @Override
+    public int applyWalletUpdates(List<WalletUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Member.class);
+        for (WalletUpdate update : updates) {
+            Member read = update.getRead();
+            bulk.updateOne(
+                    new Query(Criteria.where("_id").is(read.getId())
+                            .and("ledgerSequence").is(read.getLedgerSequence())
+                            .and("balance").gte(update.getRequired())),
+                    new Update().inc("balance", update.getDelta()).inc("ledgerSequence", update.getEntries()));
+        }
+        try {
+            return bulk.execute().getModifiedCount();
+        } catch (BulkOperationException e) {
+            log.warn("{} of {} batched wallet updates failed", e.getErrors().size(), updates.size(), e);
+            return e.getResult().getModifiedCount();
+        }
+    }
+
+    private Optional<Member> incrementBalance(Query query, double delta) {
+        // Only the wallet fields come back, the rest of the document is left untouched
+        query.fields().include("balance").include("ledgerSequence");
+        Member updated = mongoTemplate.findAndModify(
+                query,
+                new Update().inc("balance", delta).inc("ledgerSequence", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Member.class);
+        return Optional.ofNullable(updated);
+    }
+}
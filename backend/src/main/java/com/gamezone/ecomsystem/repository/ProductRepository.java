@@ -1,9 +1,12 @@
 package com.gamezone.ecomsystem.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import com.gamezone.ecomsystem.model.Product; 
 
 public interface ProductRepository extends MongoRepository<Product, String>{
-
+	List<Product> findByIdGreaterThan(String id, Pageable pageable);
 }
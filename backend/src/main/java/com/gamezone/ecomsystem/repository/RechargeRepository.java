@@ -1,5 +1,6 @@
 package com.gamezone.ecomsystem.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import com.gamezone.ecomsystem.model.Recharge;
@@ -8,4 +9,6 @@ import java.util.List;
 
 public interface RechargeRepository extends MongoRepository<Recharge, String> {
     List<Recharge> findByMemberId(String memberId);
+    List<Recharge> findByIdLessThan(String id, Pageable pageable);
+    List<Recharge> findByMemberIdAndIdLessThan(String memberId, String id, Pageable pageable);
 }
\ No newline at end of file
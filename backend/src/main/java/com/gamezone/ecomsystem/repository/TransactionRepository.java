@@ -1,5 +1,6 @@
 package com.gamezone.ecomsystem.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import com.gamezone.ecomsystem.model.Transaction;
@@ -9,4 +10,6 @@ import java.util.List;
 public interface TransactionRepository extends MongoRepository<Transaction, String> {
     List<Transaction> findByMemberId(String memberId);
     List<Transaction> findByGameId(String gameId);
+    List<Transaction> findByIdLessThan(String id, Pageable pageable);
+    List<Transaction> findByMemberIdAndIdLessThan(String memberId, String id, Pageable pageable);
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package com.gamezone.ecomsystem.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.model.Admin;
 import com.gamezone.ecomsystem.repository.AdminRepository;
 import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
-import com.gamezone.ecomsystem.exception.BusinessException;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,16 +18,7 @@ public class AdminService {
     private AdminRepository adminRepository;
 
     public Admin create(Admin admin) {
-        // Check if username already exists
-        if (adminRepository.findByUsername(admin.getUsername()).isPresent()) {
-            throw new BusinessException("Username already exists");
-        }
-        
-        // Check if email already exists
-        if (adminRepository.findByEmail(admin.getEmail()).isPresent()) {
-            throw new BusinessException("Email already exists");
-        }
-        
+        // Unique indexes reject a taken username or email, see GlobalExceptionHandler
         return adminRepository.save(admin);
     }
 
@@ -34,6 +26,12 @@ public class AdminService {
         return adminRepository.findAll();
     }
 
+    public CursorPage<Admin> findPage(String after, Integer limit) {
+        int size = CursorPage.resolveLimit(limit);
+        List<Admin> admins = adminRepository.findByIdGreaterThan(CursorPage.ascendingCursor(after), CursorPage.request(size, Sort.Direction.ASC));
+        return CursorPage.of(admins, size, Admin::getId);
+    }
+
     public Admin findById(String id) {
         return adminRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found with id: " + id));
@@ -0,0 +1,57 @@
+package com.gamezone.ecomsystem.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamezone.ecomsystem.exception.BusinessException;
+
+/**
+ * Reads a JSON array of items from a request body one element at a time
+ * with the Jackson streaming parser, so the body is never buffered or turned
+ * into a tree, and a batch over the limit is rejected as soon as it is seen.
+ */
+@Component
+public class BatchReader {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${batch.max-items:10000}")
+    private int maxItems;
+
+    public <T> List<T> read(InputStream body, Class<T> type) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException("A batch must be a JSON array.");
+            }
+            List<T> items = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    throw new BusinessException("Batch item " + items.size() + " must be a JSON object.");
+                }
+                if (items.size() == maxItems) {
+                    throw new BusinessException("A batch cannot have more than " + maxItems + " items.");
+                }
+                items.add(objectMapper.readValue(parser, type));
+            }
+            if (items.isEmpty()) {
+                throw new BusinessException("A batch must have at least one item.");
+            }
+            return items;
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Malformed batch: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new BusinessException("Could not read the batch: " + e.getMessage());
+        }
+    }
+}
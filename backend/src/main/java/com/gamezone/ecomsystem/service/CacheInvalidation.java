@@ -0,0 +1,54 @@
+package com.gamezone.ecomsystem.service;
+
+/**
+ * One cache invalidation event: a document in a collection changed. A null
+ * id means everything cached from the collection is suspect, e.g. after a
+ * drop or a lost change stream.
+ *
+ * The cluster time is the database's own timestamp for the write, the same
+ * on every instance that hears about it, or 0 when the transport cannot tell.
+ */
+public class CacheInvalidation {
+    private final String collection;
+    private final String id;
+    private final long clusterTime;
+
+    public CacheInvalidation(String collection, String id) {
+        this(collection, id, 0);
+    }
+
+    public CacheInvalidation(String collection, String id, long clusterTime) {
+        this.collection = collection;
+        this.id = id;
+        this.clusterTime = clusterTime;
+    }
+
+    public static CacheInvalidation all(String collection) {
+        return new CacheInvalidation(collection, null);
+    }
+
+    public static CacheInvalidation all(String collection, long clusterTime) {
+        return new CacheInvalidation(collection, null, clusterTime);
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getClusterTime() {
+        return clusterTime;
+    }
+
+    public boolean isAll() {
+        return id == null;
+    }
+
+    @Override
+    public String toString() {
+        return collection + "/" + (id == null ? "*" : id) + (clusterTime == 0 ? "" : "@" + clusterTime);
+    }
+}
@@ -0,0 +1,157 @@
+package com.gamezone.ecomsystem.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the in-process caches of every backend instance in step with writes
+ * made on any instance.
+ *
+ * Invalidations arrive through the configured {@link InvalidationTransport}
+ * (cache.invalidation.transport: change-stream by default, or loopback) and
+ * are fanned out to the listeners registered per collection. A listener gets
+ * the changed document id, or null when the whole collection must be dropped.
+ * Every invalidation also bumps the {@link ResourceVersions} behind the ETags.
+ *
+ * A write made through this instance is dispatched here right away, before
+ * publish returns, so the next read on this node never sees the old data.
+ * The change stream later reports the same write again. The bus remembers
+ * the cluster time each local dispatch covers (the operationTime of the
+ * writing thread's last command, see {@link OperationTimeTracker}) and drops
+ * stream events for that document at or before it: a cache load after the
+ * local dispatch already read past them. Anything newer, from any node, is
+ * dispatched as usual.
+ */
+@Service
+public class CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String GAMES = "games";
+    public static final String MEMBERS = "members";
+    public static final String PRODUCTS = "products";
+
+    private static final long MAX_TRACKED_WRITES = 100_000;
+    // Echoes arrive within milliseconds; a late one is only dispatched twice
+    private static final Duration ECHO_WINDOW = Duration.ofMinutes(1);
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private GameCatalog gameCatalog;
+
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private ResourceVersions versions;
+
+    @Autowired
+    private OperationTimeTracker operationTimes;
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    // "collection/id" (or "collection/*") to the cluster time its last local dispatch covers
+    private final Cache<String, Long> dispatchedLocally = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_WRITES)
+            .expireAfterWrite(ECHO_WINDOW)
+            .build();
+
+    @PostConstruct
+    void start() {
+        register(GAMES, id -> {
+            if (id == null) {
+                gameCatalog.reload();
+            } else {
+                gameCatalog.refresh(id);
+            }
+        });
+        register(MEMBERS, id -> {
+            if (id == null) {
+                memberCache.invalidateAll();
+            } else {
+                memberCache.invalidate(id);
+            }
+        });
+        transport.start(Set.of(GAMES, MEMBERS, PRODUCTS), this::delivered);
+        versions.startAt(transport.startedAt());
+    }
+
+    @PreDestroy
+    void stop() {
+        transport.stop();
+    }
+
+    public void register(String collection, Consumer<String> listener) {
+        listeners.computeIfAbsent(collection, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Announces a write made through this instance, from the thread that
+     * made it. Local listeners have heard about it when this returns.
+     */
+    public void publish(String collection, String id) {
+        CacheInvalidation invalidation = new CacheInvalidation(collection, id, operationTimes.lastOperationTime());
+        if (!transport.deliversLocally()) {
+            if (invalidation.getClusterTime() != 0) {
+                dispatchedLocally.asMap().merge(key(collection, id), invalidation.getClusterTime(), Math::max);
+            }
+            dispatch(invalidation);
+        }
+        transport.publish(invalidation);
+    }
+
+    private void delivered(CacheInvalidation invalidation) {
+        if (isEcho(invalidation)) {
+            log.debug("Cache invalidation {} already dispatched locally", invalidation);
+            return;
+        }
+        dispatch(invalidation);
+    }
+
+    private boolean isEcho(CacheInvalidation invalidation) {
+        long time = invalidation.getClusterTime();
+        if (time == 0) {
+            return false;
+        }
+        Long all = dispatchedLocally.getIfPresent(key(invalidation.getCollection(), null));
+        if (all != null && time <= all) {
+            return true;
+        }
+        Long document = invalidation.isAll() ? null : dispatchedLocally.getIfPresent(key(invalidation.getCollection(), invalidation.getId()));
+        return document != null && time <= document;
+    }
+
+    private static String key(String collection, String id) {
+        return collection + "/" + (id == null ? "*" : id);
+    }
+
+    void dispatch(CacheInvalidation invalidation) {
+        log.debug("Cache invalidation {}", invalidation);
+        for (Consumer<String> listener : listeners.getOrDefault(invalidation.getCollection(), List.of())) {
+            try {
+                listener.accept(invalidation.getId());
+            } catch (RuntimeException e) {
+                // One broken cache must not stop the others from hearing about the write
+                log.error("Cache invalidation listener failed for {}", invalidation, e);
+            }
+        }
+        // After the caches, so a new tag is never handed out while a cache still holds the old data
+        versions.bump(invalidation.getCollection(), invalidation.getId(), invalidation.getClusterTime());
+    }
+}
@@ -0,0 +1,155 @@
+package com.gamezone.ecomsystem.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.dto.FieldSelection;
+import com.gamezone.ecomsystem.model.Game;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Ready-to-write response bodies for {@code GET /games}.
+ *
+ * Each catalog page, per fieldset, is serialized to UTF-8 JSON once per
+ * {@link GameCatalog} snapshot, and its gzip and brotli variants are
+ * compressed the first time a client asks for them. A new snapshot (any game create, update or delete,
+ * here or on another node) discards every cached page, so the bodies always
+ * match the catalog they were built from.
+ */
+@Service
+public class CatalogResponseCache {
+    private static final Logger log = LoggerFactory.getLogger(CatalogResponseCache.class);
+
+    // Bounds the pages kept per snapshot, arbitrary cursors must not grow it forever
+    private static final int MAX_PAGES = 256;
+    private static final int BROTLI_QUALITY = 11; // Paid once per snapshot, so use the densest setting
+
+    @Autowired
+    private GameCatalog catalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private volatile Pages pages;
+    private boolean brotliAvailable;
+
+    @PostConstruct
+    void init() {
+        brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            log.warn("Brotli native library unavailable, catalog responses will offer gzip only", Brotli4jLoader.getUnavailabilityCause());
+        }
+    }
+
+    public Body page(String after, Integer limit, FieldSelection fields) {
+        int size = CursorPage.resolveLimit(limit);
+        GameCatalog.Snapshot snapshot = catalog.current();
+        Pages current = pages;
+        if (current == null || current.snapshot != snapshot) {
+            current = new Pages(snapshot);
+            pages = current;
+        }
+        String key = (after == null ? "" : after) + "|" + size + "|" + fields.key();
+        Body body = current.bodies.get(key);
+        if (body == null) {
+            body = serialize(snapshot.page(after, size), fields);
+            if (current.bodies.size() < MAX_PAGES) {
+                current.bodies.putIfAbsent(key, body);
+            }
+        }
+        return body;
+    }
+
+    public boolean isBrotliAvailable() {
+        return brotliAvailable;
+    }
+
+    private Body serialize(CursorPage<Game> page, FieldSelection fields) {
+        try {
+            byte[] json = objectMapper.writer(fields.filters()).writeValueAsBytes(page.getItems());
+            return new Body(json, page.getNextCursor());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the game catalog", e);
+        }
+    }
+
+    private static final class Pages {
+        final GameCatalog.Snapshot snapshot;
+        final Map<String, Body> bodies = new ConcurrentHashMap<>();
+
+        Pages(GameCatalog.Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * One serialized page. The compressed variants are filled in on first
+     * use; a race only means compressing twice, never a torn result.
+     */
+    public static final class Body {
+        private final byte[] json;
+        private final String nextCursor;
+        private volatile byte[] gzip;
+        private volatile byte[] brotli;
+
+        Body(byte[] json, String nextCursor) {
+            this.json = json;
+            this.nextCursor = nextCursor;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public byte[] getGzip() {
+            byte[] bytes = gzip;
+            if (bytes == null) {
+                bytes = gzip(json);
+                gzip = bytes;
+            }
+            return bytes;
+        }
+
+        public byte[] getBrotli() {
+            byte[] bytes = brotli;
+            if (bytes == null) {
+                try {
+                    bytes = Encoder.compress(json, new Encoder.Parameters().setQuality(BROTLI_QUALITY));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                brotli = bytes;
+            }
+            return bytes;
+        }
+
+        private static byte[] gzip(byte[] data) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
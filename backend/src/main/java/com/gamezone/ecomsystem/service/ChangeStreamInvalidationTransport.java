@@ -0,0 +1,204 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * Feeds the bus from a MongoDB change stream on the watched collections, so
+ * every instance sees every write no matter which node made it, including
+ * writes that bypass the services. The stream only needs the document key,
+ * so no full documents are fetched.
+ *
+ * Every invalidation carries the cluster time of its write, and the stream
+ * starts at a cluster time read from the server, so all instances agree on
+ * when each change happened.
+ *
+ * Change streams need a replica set (Atlas always is one). Against a
+ * standalone server the transport logs a warning and stays idle, leaving
+ * each node with only its own invalidations.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "change-stream", matchIfMissing = true)
+public class ChangeStreamInvalidationTransport implements InvalidationTransport {
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamInvalidationTransport.class);
+
+    private static final int CHANGE_STREAM_NOT_SUPPORTED = 40573;
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final long RETRY_DELAY_MS = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private volatile boolean running;
+    private volatile long startedAt;
+    private Thread worker;
+
+    @Override
+    public synchronized void start(Collection<String> collections, Consumer<CacheInvalidation> listener) {
+        running = true;
+        startedAt = clusterTime();
+        worker = new Thread(() -> watch(List.copyOf(collections), listener), "cache-invalidation");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        // The change stream reports our own writes too; the bus drops those echoes
+    }
+
+    @Override
+    public long startedAt() {
+        return startedAt;
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void watch(List<String> collections, Consumer<CacheInvalidation> listener) {
+        BsonDocument resumeToken = null;
+        long startAt = startedAt;
+        while (running) {
+            ChangeStreamIterable<Document> stream = mongoTemplate.getDb()
+                    .watch(List.of(Aggregates.match(Filters.in("ns.coll", collections))))
+                    .maxAwaitTime(1, TimeUnit.SECONDS);
+            if (resumeToken != null) {
+                stream = stream.resumeAfter(resumeToken);
+            } else if (startAt != 0) {
+                stream = stream.startAtOperationTime(new BsonTimestamp(startAt));
+            }
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+                log.info("Watching {} for cache invalidations", collections);
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change == null) {
+                        continue;
+                    }
+                    resumeToken = cursor.getResumeToken();
+                    if (change.getOperationType() == OperationType.INVALIDATE) {
+                        // The stream is closed for good, start a new one and assume we missed writes
+                        resumeToken = null;
+                        startAt = restart(collections, listener);
+                        break;
+                    }
+                    if (change.getNamespace() == null || change.getNamespace().getCollectionName() == null) {
+                        flush(collections, listener, clusterTimeOf(change)); // Database-wide event such as dropDatabase
+                        continue;
+                    }
+                    listener.accept(toInvalidation(change));
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CHANGE_STREAM_NOT_SUPPORTED) {
+                    log.warn("Change streams are not supported by this MongoDB deployment, cross-node cache invalidation is off");
+                    return;
+                }
+                if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("Change stream history lost, flushing caches");
+                    resumeToken = null;
+                    startAt = restart(collections, listener);
+                }
+                pause(e);
+            } catch (RuntimeException e) {
+                pause(e);
+            }
+        }
+    }
+
+    private CacheInvalidation toInvalidation(ChangeStreamDocument<Document> change) {
+        String collection = change.getNamespace().getCollectionName();
+        BsonDocument key = change.getDocumentKey();
+        if (key == null || !key.containsKey("_id")) {
+            // Drops and renames carry no document key
+            return CacheInvalidation.all(collection, clusterTimeOf(change));
+        }
+        return new CacheInvalidation(collection, idOf(key.get("_id")), clusterTimeOf(change));
+    }
+
+    private static long clusterTimeOf(ChangeStreamDocument<Document> change) {
+        BsonTimestamp time = change.getClusterTime();
+        return time == null ? 0 : time.getValue();
+    }
+
+    /**
+     * Current cluster time of the deployment, or 0 against a standalone
+     * server, which has none.
+     */
+    private long clusterTime() {
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory()
+                .getSession(ClientSessionOptions.builder().causallyConsistent(true).build())) {
+            mongoTemplate.getDb().runCommand(session, new Document("ping", 1));
+            BsonTimestamp time = session.getOperationTime();
+            return time == null ? 0 : time.getValue();
+        } catch (RuntimeException e) {
+            log.warn("Could not read the cluster time, cache invalidations will carry none", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Flushes every cache as of now and returns that cluster time, for the
+     * next stream to start from, so nothing written in between is missed.
+     */
+    private long restart(List<String> collections, Consumer<CacheInvalidation> listener) {
+        long now = clusterTime();
+        flush(collections, listener, now);
+        return now;
+    }
+
+    static String idOf(BsonValue id) {
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        if (id.isString()) {
+            return id.asString().getValue();
+        }
+        return id.toString();
+    }
+
+    private void flush(List<String> collections, Consumer<CacheInvalidation> listener, long clusterTime) {
+        for (String collection : collections) {
+            listener.accept(CacheInvalidation.all(collection, clusterTime));
+        }
+    }
+
+    private void pause(RuntimeException e) {
+        if (!running) {
+            return;
+        }
+        log.warn("Cache invalidation stream failed, retrying in {} ms", RETRY_DELAY_MS, e);
+        try {
+            Thread.sleep(RETRY_DELAY_MS);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
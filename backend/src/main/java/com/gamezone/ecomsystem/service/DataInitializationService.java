@@ -1,7 +1,12 @@
 package com.gamezone.ecomsystem.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import com.gamezone.ecomsystem.model.Admin;
 import com.gamezone.ecomsystem.model.Member;
@@ -13,7 +18,9 @@ import java.util.Date;
 import java.util.List;
 
 @Service
+@Profile("!seed") // SyntheticDataSeeder fills the database instead
 public class DataInitializationService implements CommandLineRunner {
+    private static final Logger log = LoggerFactory.getLogger(DataInitializationService.class);
 
     @Autowired
     private AdminService adminService;
@@ -30,9 +37,26 @@ public class DataInitializationService implements CommandLineRunner {
     @Autowired
     private RechargeService rechargeService;
 
+    // Virtual threads when spring.threads.virtual.enabled is set (the virtual-threads build profile)
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private RoundTripTracker roundTripTracker;
+
     @Override
     public void run(String... args) throws Exception {
-        initializeData();
+        // Seeding makes the same service and driver calls as requests do, on the same kind of thread
+        taskExecutor.submitCompletable(() -> {
+            RoundTrips trips = roundTripTracker.begin("startup seeding");
+            try {
+                initializeData();
+            } finally {
+                roundTripTracker.end(trips);
+                log.info("Startup seeding: {} Mongo commands in {} ms", trips.getCommands(), trips.getNanos() / 1_000_000);
+            }
+        }).join();
     }
 
     private void initializeData() {
@@ -0,0 +1,107 @@
+package com.gamezone.ecomsystem.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+
+/**
+ * Writes transaction and recharge history as newline-delimited JSON straight
+ * from a Mongo cursor, so only one document is in memory at a time no matter
+ * how large the export is.
+ */
+@Service
+public class ExportService {
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void exportTransactions(Date from, Date to, OutputStream out) throws IOException {
+        Query query = query(from, to);
+        log.info("Exporting transactions from {} to {}", from, to);
+        try (Stream<Transaction> transactions = mongoTemplate.stream(query, Transaction.class)) {
+            long count = writeNdjson(transactions, out);
+            log.info("Exported {} transactions", count);
+        }
+    }
+
+    public void exportRecharges(Date from, Date to, OutputStream out) throws IOException {
+        Query query = query(from, to);
+        log.info("Exporting recharges from {} to {}", from, to);
+        try (Stream<Recharge> recharges = mongoTemplate.stream(query, Recharge.class)) {
+            long count = writeNdjson(recharges, out);
+            log.info("Exported {} recharges", count);
+        }
+    }
+
+    /**
+     * Both bounds are optional. The lower bound is inclusive and the upper
+     * bound exclusive, so consecutive exports never overlap.
+     */
+    public void validateRange(Date from, Date to) {
+        if (from != null && to != null && !from.before(to)) {
+            throw new BusinessException("Export 'from' must be before 'to'.");
+        }
+    }
+
+    /**
+     * Oldest first. A missing bound adds no date condition at all, so an
+     * unfiltered export also includes records that have no date.
+     */
+    Query query(Date from, Date to) {
+        validateRange(from, to);
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "date"));
+        if (from != null || to != null) {
+            Criteria date = Criteria.where("date");
+            if (from != null) {
+                date.gte(from);
+            }
+            if (to != null) {
+                date.lt(to);
+            }
+            query.addCriteria(date);
+        }
+        return query;
+    }
+
+    private <T> long writeNdjson(Stream<T> items, OutputStream out) throws IOException {
+        long count = 0;
+        // Flushing per document would push every line to the socket on its own
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        // The generator must not close the servlet stream, the container owns it
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,277 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.repository.GameRepository;
+
+/**
+ * In-process, copy-on-write copy of the game catalog.
+ *
+ * Readers work against an immutable {@link Snapshot} published through a
+ * volatile field, so reads take no locks and make no database round trips.
+ * Writers (GameService create/update/delete) build a new snapshot from the
+ * current one plus their change and swap it in. The catalog loads lazily on
+ * first use and can be reloaded from Mongo with {@link #reload()}.
+ *
+ * Games handed out by the catalog are shared between requests and must not
+ * be modified; update paths read their own copy from the repository.
+ *
+ * Writers serialize on a ReentrantLock rather than a monitor: loads and
+ * refreshes read Mongo while holding it, and a virtual thread blocked inside
+ * a synchronized block would pin its carrier thread.
+ */
+@Service
+public class GameCatalog {
+    private static final Logger log = LoggerFactory.getLogger(GameCatalog.class);
+
+    @Autowired
+    private GameRepository repo;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public List<Game> findAll() {
+        return snapshot().all;
+    }
+
+    public Optional<Game> findById(String id) {
+        return Optional.ofNullable(snapshot().byId.get(id));
+    }
+
+    public List<Game> findAllById(Iterable<String> ids) {
+        Snapshot current = snapshot();
+        List<Game> games = new ArrayList<>();
+        for (String id : ids) {
+            Game game = current.byId.get(id);
+            if (game != null) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
+
+    public List<Game> findByStatus(String status) {
+        return snapshot().byStatus.getOrDefault(status, List.of());
+    }
+
+    public List<Game> findByGenre(String genre) {
+        return snapshot().byGenre.getOrDefault(genre, List.of());
+    }
+
+    public List<Game> findByPlatform(String platform) {
+        return snapshot().byPlatform.getOrDefault(platform, List.of());
+    }
+
+    /**
+     * Games priced strictly between the bounds, matching the exclusive
+     * semantics of {@code GameRepository.findByPriceBetween}.
+     */
+    public List<Game> findByPriceBetween(double minPrice, double maxPrice) {
+        Snapshot current = snapshot();
+        int from = upperBound(current.prices, minPrice);
+        int to = lowerBound(current.prices, maxPrice);
+        return from >= to ? List.of() : current.byPrice.subList(from, to);
+    }
+
+    /**
+     * Keyset page over the catalog in id order, same contract as the
+     * repository-backed pages.
+     */
+    public CursorPage<Game> findPage(String after, int limit) {
+        return snapshot().page(after, limit);
+    }
+
+    /** Publishes a snapshot with the game added or replaced. */
+    public void put(Game game) {
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                load();
+                return; // A fresh load already contains the write
+            }
+            Map<String, Game> games = new HashMap<>(snapshot.byId);
+            games.put(game.getId(), game);
+            snapshot = new Snapshot(games.values());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Publishes a snapshot without the game. */
+    public void remove(String id) {
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                load();
+                return;
+            }
+            Map<String, Game> games = new HashMap<>(snapshot.byId);
+            games.remove(id);
+            snapshot = new Snapshot(games.values());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-reads one game from Mongo after a write elsewhere. The read happens
+     * under the writer lock so refreshes of the same game cannot publish out
+     * of order.
+     */
+    public void refresh(String id) {
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                return; // The first read will load current data anyway
+            }
+            Optional<Game> game = repo.findById(id);
+            if (game.isPresent()) {
+                put(game.get());
+            } else {
+                remove(id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Replaces the catalog with a fresh copy from Mongo. */
+    public void reload() {
+        writeLock.lock();
+        try {
+            load();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The snapshot currently published. Derived caches key on its identity,
+     * since a new snapshot is published for every change.
+     */
+    Snapshot current() {
+        return snapshot();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                load();
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void load() {
+        List<Game> games = repo.findAll();
+        snapshot = new Snapshot(games);
+        log.info("Game catalog loaded with {} games", games.size());
+    }
+
+    private static int upperBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Immutable view of the catalog with its secondary indexes. Built once,
+     * never modified after construction.
+     */
+    static final class Snapshot {
+        final List<Game> all; // Sorted by id
+        final List<String> ids;
+        final Map<String, Game> byId;
+        final Map<String, List<Game>> byStatus;
+        final Map<String, List<Game>> byGenre;
+        final Map<String, List<Game>> byPlatform;
+        final List<Game> byPrice;
+        final double[] prices; // Parallel to byPrice, for binary search
+
+        Snapshot(Iterable<Game> games) {
+            List<Game> sorted = new ArrayList<>();
+            games.forEach(sorted::add);
+            sorted.sort(Comparator.comparing(Game::getId));
+            this.all = List.copyOf(sorted);
+            this.ids = all.stream().map(Game::getId).toList();
+
+            Map<String, Game> byId = new HashMap<>();
+            for (Game game : all) {
+                byId.put(game.getId(), game);
+            }
+            this.byId = Map.copyOf(byId);
+            this.byStatus = index(all, Game::getStatus);
+            this.byGenre = index(all, Game::getGenre);
+            this.byPlatform = index(all, Game::getPlatform);
+
+            List<Game> byPrice = new ArrayList<>(all);
+            byPrice.sort(Comparator.comparingDouble(Game::getPrice));
+            this.byPrice = List.copyOf(byPrice);
+            this.prices = byPrice.stream().mapToDouble(Game::getPrice).toArray();
+        }
+
+        CursorPage<Game> page(String after, int limit) {
+            int from = Collections.binarySearch(ids, CursorPage.ascendingCursor(after));
+            from = from >= 0 ? from + 1 : -from - 1;
+            int to = Math.min(from + limit, all.size());
+            return CursorPage.of(all.subList(from, to), limit, Game::getId);
+        }
+
+        private static Map<String, List<Game>> index(List<Game> games, Function<Game, String> key) {
+            Map<String, List<Game>> index = new HashMap<>();
+            for (Game game : games) {
+                String value = key.apply(game);
+                if (value != null) {
+                    index.computeIfAbsent(value, k -> new ArrayList<>()).add(game);
+                }
+            }
+            Map<String, List<Game>> frozen = new HashMap<>();
+            index.forEach((value, list) -> frozen.put(value, List.copyOf(list)));
+            return Map.copyOf(frozen);
+        }
+    }
+}
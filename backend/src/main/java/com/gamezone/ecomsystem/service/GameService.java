@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.exception.BusinessException;
 import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
 import com.gamezone.ecomsystem.model.Game;
@@ -19,6 +20,15 @@ public class GameService {
     @Autowired
     private GameRepository repo;
 
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private GameCatalog catalog;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
     public Game create(Game game) {
         log.info("Creating game: {}", game.getName());
         game.setId(null);
@@ -42,18 +52,26 @@ public class GameService {
         
         validate(game);
         Game savedGame = repo.save(game);
+        catalog.put(savedGame);
+        invalidationBus.publish(CacheInvalidationBus.GAMES, savedGame.getId());
+        statsService.recordGameCreated();
         log.info("Game created successfully with ID: {}", savedGame.getId());
         return savedGame;
     }
 
     public List<Game> findAll() {
         log.info("Finding all games");
-        return repo.findAll();
+        return catalog.findAll();
+    }
+
+    public CursorPage<Game> findPage(String after, Integer limit) {
+        log.info("Finding games after cursor: {}", after);
+        return catalog.findPage(after, CursorPage.resolveLimit(limit));
     }
 
     public Game findById(String id) {
         log.info("Finding game by id: {}", id);
-        return repo.findById(id)
+        return catalog.findById(id)
                 .orElseThrow(() -> {
                     log.error("Attempted to find non-existing game id: {}", id);
                     return new ResourceNotFoundException("Game not found with id: " + id);
@@ -62,7 +80,12 @@ public class GameService {
 
     public Game update(String id, Game gameDetails) {
         log.info("Updating game by id: {}", id);
-        Game existingGame = findById(id);
+        // Catalog games are shared, so edit a fresh copy and publish it once saved
+        Game existingGame = repo.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Attempted to update non-existing game id: {}", id);
+                    return new ResourceNotFoundException("Game not found with id: " + id);
+                });
 
         existingGame.setName(gameDetails.getName());
         existingGame.setDescription(gameDetails.getDescription());
@@ -77,7 +100,10 @@ public class GameService {
         existingGame.setReleaseDate(gameDetails.getReleaseDate());
 
         validate(existingGame);
-        return repo.save(existingGame);
+        Game savedGame = repo.save(existingGame);
+        catalog.put(savedGame);
+        invalidationBus.publish(CacheInvalidationBus.GAMES, id);
+        return savedGame;
     }
 
     public void delete(String id) {
@@ -87,6 +113,9 @@ public class GameService {
             throw new ResourceNotFoundException("Game not found with id: " + id);
         }
         repo.deleteById(id);
+        catalog.remove(id);
+        invalidationBus.publish(CacheInvalidationBus.GAMES, id);
+        statsService.recordGameDeleted();
     }
 
     private void validate(Game game) {
@@ -0,0 +1,39 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between backend instances for the
+ * {@link CacheInvalidationBus}.
+ */
+public interface InvalidationTransport {
+
+    /** Starts delivering invalidations for the given collections to the listener. */
+    void start(Collection<String> collections, Consumer<CacheInvalidation> listener);
+
+    /**
+     * Announces a write made by this instance. Transports that observe the
+     * database directly can ignore it.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    void stop();
+
+    /**
+     * Whether {@link #publish} already reaches this instance's own listeners,
+     * before it returns, so the bus need not notify them itself.
+     */
+    default boolean deliversLocally() {
+        return false;
+    }
+
+    /**
+     * Cluster time from which {@link #start} reports every write, or 0 when
+     * the transport's invalidations carry no cluster time. Only meaningful
+     * once started.
+     */
+    default long startedAt() {
+        return 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process transport: every published invalidation is delivered straight
+ * to the listeners started on this instance. Suits a single node and tests;
+ * sharing one instance between several buses simulates several nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "loopback")
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void start(Collection<String> collections, Consumer<CacheInvalidation> listener) {
+        listeners.add(invalidation -> {
+            if (collections.contains(invalidation.getCollection())) {
+                listener.accept(invalidation);
+            }
+        });
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void stop() {
+        listeners.clear();
+    }
+
+    @Override
+    public boolean deliversLocally() {
+        return true;
+    }
+}
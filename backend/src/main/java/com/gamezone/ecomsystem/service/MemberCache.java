@@ -0,0 +1,202 @@
+package com.gamezone.ecomsystem.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bounded cache of member records for the hot read paths: dashboard by id,
+ * search by phone and login by email.
+ *
+ * Records are held once, keyed by id, in a Caffeine cache (W-TinyLFU
+ * eviction). Phone and email resolve to an id through small side indexes
+ * that are pruned when a record leaves the cache. Every member write and
+ * every balance change reaches {@link #invalidate(String)} through the
+ * {@link CacheInvalidationBus}.
+ *
+ * Members handed out here are shared between requests and must not be
+ * modified; write paths read their own copy from the repository.
+ */
+@Service
+public class MemberCache {
+    private static final Logger log = LoggerFactory.getLogger(MemberCache.class);
+
+    static final String CACHE_NAME = "members";
+    private static final int STRIPES = 4096; // Power of two
+
+    @Autowired
+    private MemberRepository repo;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${member-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${member-cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    private Cache<String, Member> members;
+    private final Map<String, String> idsByPhone = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+
+    // Every invalidation takes a number and stamps it on the member's stripe, so a load is dropped only
+    // when the member it read (or one sharing its stripe) was invalidated while the read was in flight
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(STRIPES);
+
+    // Bumped by invalidateAll, which discards every load in flight
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        members = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(Runnable::run) // Prune the side indexes on the caller, not the common pool
+                .removalListener(this::unindex)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, members, CACHE_NAME);
+        log.info("Member cache initialised with maximum size {}", maximumSize);
+    }
+
+    public Optional<Member> findById(String id) {
+        return lookup("id", id, () -> repo.findById(id));
+    }
+
+    public Optional<Member> findByPhoneNumber(String phoneNumber) {
+        Member member = cached(idsByPhone.get(phoneNumber));
+        if (member != null && phoneNumber.equals(member.getPhoneNumber())) {
+            counter(hits, "phone", "hit").increment();
+            return Optional.of(member);
+        }
+        counter(misses, "phone", "miss").increment();
+        return load(() -> repo.findByPhoneNumber(phoneNumber));
+    }
+
+    public Optional<Member> findByEmail(String email) {
+        Member member = cached(idsByEmail.get(email));
+        if (member != null && email.equals(member.getEmail())) {
+            counter(hits, "email", "hit").increment();
+            return Optional.of(member);
+        }
+        counter(misses, "email", "miss").increment();
+        return load(() -> repo.findByEmail(email));
+    }
+
+    /**
+     * Cached member for the email, without loading it on a miss. For callers
+     * that read a cheaper projection themselves when the member is not cached.
+     */
+    public Optional<Member> peekByEmail(String email) {
+        Member member = cached(idsByEmail.get(email));
+        if (member != null && email.equals(member.getEmail())) {
+            counter(hits, "email", "hit").increment();
+            return Optional.of(member);
+        }
+        counter(misses, "email", "miss").increment();
+        return Optional.empty();
+    }
+
+    /** Drops the member so the next read goes to Mongo. */
+    public void invalidate(String id) {
+        long stamp = invalidations.incrementAndGet();
+        invalidatedAt.accumulateAndGet(stripe(id), stamp, Math::max);
+        members.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        members.invalidateAll();
+    }
+
+    private Optional<Member> lookup(String key, String id, Supplier<Optional<Member>> loader) {
+        Member member = cached(id);
+        if (member != null) {
+            counter(hits, key, "hit").increment();
+            return Optional.of(member);
+        }
+        counter(misses, key, "miss").increment();
+        return load(loader);
+    }
+
+    private Member cached(String id) {
+        return id == null ? null : members.getIfPresent(id);
+    }
+
+    private Optional<Member> load(Supplier<Optional<Member>> loader) {
+        long observedGeneration = generation.get();
+        long observed = invalidations.get();
+        Optional<Member> loaded = loader.get();
+        loaded.ifPresent(member -> members.asMap().compute(member.getId(), (id, current) -> {
+            // An invalidation of this member since the read means the copy may predate a write
+            if (generation.get() != observedGeneration || invalidatedAt.get(stripe(id)) > observed) {
+                return current;
+            }
+            // Re-index an existing entry too, a late removal listener may have pruned its keys
+            Member cached = current != null ? current : member;
+            index(cached);
+            return cached;
+        }));
+        return loaded;
+    }
+
+    private static int stripe(String id) {
+        int h = id.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private void index(Member member) {
+        if (member.getPhoneNumber() != null) {
+            idsByPhone.put(member.getPhoneNumber(), member.getId());
+        }
+        if (member.getEmail() != null) {
+            idsByEmail.put(member.getEmail(), member.getId());
+        }
+    }
+
+    private void unindex(String id, Member member, RemovalCause cause) {
+        if (member == null) {
+            return;
+        }
+        if (member.getPhoneNumber() != null) {
+            idsByPhone.remove(member.getPhoneNumber(), id);
+        }
+        if (member.getEmail() != null) {
+            idsByEmail.remove(member.getEmail(), id);
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String key, String result) {
+        return counters.computeIfAbsent(key, k -> Counter.builder("member.cache.lookups")
+                .description("Member cache lookups by key type")
+                .tag("key", k)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
@@ -1,14 +1,25 @@
 package com.gamezone.ecomsystem.service;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.dto.FieldSelection;
 import com.gamezone.ecomsystem.dto.GameDto;
 import com.gamezone.ecomsystem.dto.MemberProfileDto;
 import com.gamezone.ecomsystem.dto.PlayedHistoryDto;
@@ -19,14 +30,16 @@ import com.gamezone.ecomsystem.mapper.GameMapper;
 import com.gamezone.ecomsystem.mapper.MemberMapper;
 import com.gamezone.ecomsystem.mapper.RechargeMapper;
 import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.LedgerEntry;
 import com.gamezone.ecomsystem.model.Member;
 import com.gamezone.ecomsystem.model.Recharge;
 import com.gamezone.ecomsystem.model.Transaction;
-import com.gamezone.ecomsystem.repository.GameRepository;
 import com.gamezone.ecomsystem.repository.MemberRepository;
 import com.gamezone.ecomsystem.repository.RechargeRepository;
 import com.gamezone.ecomsystem.repository.TransactionRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 public class MemberService {
     private static final Logger log = LoggerFactory.getLogger(MemberService.class);
@@ -34,6 +47,21 @@ public class MemberService {
     @Autowired
     private MemberRepository repo;
 
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     public Member create(Member member) {
         log.info("Creating member: {}", member.getName());
         member.setId(null);
@@ -57,6 +85,8 @@ public class MemberService {
         
         validate(member);
         Member savedMember = repo.save(member);
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, savedMember.getId());
+        statsService.recordMemberCreated(savedMember.getBalance());
         log.info("Member created successfully with ID: {}", savedMember.getId());
         return savedMember;
     }
@@ -66,9 +96,23 @@ public class MemberService {
         return repo.findAll();
     }
 
+    public CursorPage<Member> findPage(String after, Integer limit, FieldSelection fields) {
+        log.info("Finding members after cursor: {}", after);
+        int size = CursorPage.resolveLimit(limit);
+        List<Member> members;
+        if (fields.isAll()) {
+            members = repo.findByIdGreaterThan(CursorPage.ascendingCursor(after), CursorPage.request(size, Sort.Direction.ASC));
+        } else {
+            Query query = new Query(Criteria.where("id").gt(CursorPage.ascendingCursor(after)))
+                    .with(CursorPage.request(size, Sort.Direction.ASC));
+            members = mongoTemplate.find(fields.project(query), Member.class);
+        }
+        return CursorPage.of(members, size, Member::getId);
+    }
+
     public Member findById(String id) {
         log.info("Finding member by id: {}", id);
-        return repo.findById(id)
+        return memberCache.findById(id)
                 .orElseThrow(() -> {
                     log.error("Attempted to find non-existing member id: {}", id);
                     return new ResourceNotFoundException("Member not found with id: " + id);
@@ -77,7 +121,21 @@ public class MemberService {
 
     public Member findByEmail(String email) {
         log.info("Finding member by email: {}", email);
-        return repo.findByEmail(email)
+        return memberCache.findByEmail(email)
+                .orElseThrow(() -> {
+                    log.error("Attempted to find non-existing member email: {}", email);
+                    return new ResourceNotFoundException("Member not found with email: " + email);
+                });
+    }
+
+    /**
+     * Member summary for login: the cached member if there is one, otherwise
+     * a projection of just the fields login returns. Not for editing.
+     */
+    public Member findForLogin(String email) {
+        log.info("Finding member for login by email: {}", email);
+        return memberCache.peekByEmail(email)
+                .or(() -> repo.findLoginByEmail(email))
                 .orElseThrow(() -> {
                     log.error("Attempted to find non-existing member email: {}", email);
                     return new ResourceNotFoundException("Member not found with email: " + email);
@@ -86,12 +144,16 @@ public class MemberService {
 
     public Member update(String id, Member memberDetails) {
         log.info("Updating member by id: {}", id);
-        Member existingMember = findById(id); // This already handles the not-found case
+        // Cached members are shared, so edit a fresh copy from the repository
+        Member existingMember = repo.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Attempted to update non-existing member id: {}", id);
+                    return new ResourceNotFoundException("Member not found with id: " + id);
+                });
 
         existingMember.setName(memberDetails.getName());
         existingMember.setPhoneNumber(memberDetails.getPhoneNumber());
         existingMember.setEmail(memberDetails.getEmail());
-        existingMember.setBalance(memberDetails.getBalance());
         existingMember.setActive(memberDetails.isActive());
         existingMember.setAddress(memberDetails.getAddress());
         existingMember.setCity(memberDetails.getCity());
@@ -102,17 +164,32 @@ public class MemberService {
         existingMember.setDateOfBirth(memberDetails.getDateOfBirth());
         existingMember.setProfileImageUrl(memberDetails.getProfileImageUrl());
 
-        validateForUpdate(existingMember, id);
-        return repo.save(existingMember);
+        validateForUpdate(existingMember);
+        if (memberDetails.getBalance() < 0) {
+            throw new BusinessException("Balance cannot be negative.");
+        }
+        Member updatedMember = repo.updateProfile(existingMember);
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, id);
+
+        // Balance edits go through the ledger as an adjustment rather than an overwrite
+        double delta = memberDetails.getBalance() - existingMember.getBalance();
+        if (delta > 0) {
+            updatedMember.setBalance(walletService.credit(id, delta, LedgerEntry.REF_ADJUSTMENT, id));
+        } else if (delta < 0) {
+            updatedMember.setBalance(walletService.debit(id, -delta, LedgerEntry.REF_ADJUSTMENT, id));
+        }
+        return updatedMember;
     }
 
     public void delete(String id) {
         log.info("Deleting member by id: {}", id);
-        if (!repo.existsById(id)) {
+        Member member = repo.findById(id).orElseThrow(() -> {
             log.error("Attempted to delete non-existing member id: {}", id);
-            throw new ResourceNotFoundException("Member not found with id: " + id);
-        }
+            return new ResourceNotFoundException("Member not found with id: " + id);
+        });
         repo.deleteById(id);
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, id);
+        statsService.recordMemberDeleted(member.getBalance());
     }
 
     private void validate(Member member) {
@@ -140,21 +217,14 @@ public class MemberService {
         if (member.getGender() != null && !isValidGender(member.getGender())) {
             throw new BusinessException("Invalid gender. Must be MALE, FEMALE, or OTHER.");
         }
-        // Check if phone number already exists (only for new members)
-        if (member.getId() == null && repo.findByPhoneNumber(member.getPhoneNumber()).isPresent()) {
-            throw new BusinessException("Phone number already exists.");
-        }
-        // Check if email already exists (only for new members)
-        if (member.getId() == null && repo.findByEmail(member.getEmail()).isPresent()) {
-            throw new BusinessException("Email already exists.");
-        }
+        // Phone and email uniqueness is enforced by unique indexes, see GlobalExceptionHandler
     }
     
-    private boolean isValidPhoneNumber(String phoneNumber) {
+    static boolean isValidPhoneNumber(String phoneNumber) {
         return phoneNumber.matches("\\d{10}");
     }
     
-    private boolean isValidEmail(String email) {
+    static boolean isValidEmail(String email) {
         return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
     }
     
@@ -162,7 +232,7 @@ public class MemberService {
         return "MALE".equals(gender) || "FEMALE".equals(gender) || "OTHER".equals(gender);
     }
     
-    private void validateForUpdate(Member member, String currentId) {
+    private void validateForUpdate(Member member) {
         if (!StringUtils.hasText(member.getName())) {
             throw new BusinessException("Member name is required.");
         }
@@ -187,30 +257,18 @@ public class MemberService {
         if (member.getGender() != null && !isValidGender(member.getGender())) {
             throw new BusinessException("Invalid gender. Must be MALE, FEMALE, or OTHER.");
         }
-        
-        // Check if phone number already exists for a different member
-        repo.findByPhoneNumber(member.getPhoneNumber()).ifPresent(existingMember -> {
-            if (!existingMember.getId().equals(currentId)) {
-                throw new BusinessException("Phone number already exists for another member.");
-            }
-        });
-        
-        // Check if email already exists for a different member
-        repo.findByEmail(member.getEmail()).ifPresent(existingMember -> {
-            if (!existingMember.getId().equals(currentId)) {
-                throw new BusinessException("Email already exists for another member.");
-            }
-        });
+        // Phone and email uniqueness is enforced by unique indexes, see GlobalExceptionHandler
     }
    
 	 // Add these at the top with your other @Autowired fields
 	 @Autowired private RechargeRepository rechargeRepo;
-	 @Autowired private GameRepository gameRepo;
+	 @Autowired private GameCatalog gameCatalog;
 	 @Autowired private TransactionRepository transactionRepo;
 	
+	 @Timed(value = "gamezone.members.profile", description = "Member profile lookups by phone", histogram = true)
 	 public MemberProfileDto getMemberProfileByPhone(String phoneNumber) {
 	     // 1. Find the Member
-	     Member member = repo.findByPhoneNumber(phoneNumber)
+	     Member member = memberCache.findByPhoneNumber(phoneNumber)
 	             .orElseThrow(() -> new ResourceNotFoundException("Member not found with phone: " + phoneNumber));
 	
 	     // 2. Get recharge history
@@ -218,17 +276,24 @@ public class MemberService {
 	     List<RechargeDto> rechargeDtos = recharges.stream().map(RechargeMapper::toDto).collect(java.util.stream.Collectors.toList());
 	
 	     // 3. Get all available games
-	     List<Game> activeGames = gameRepo.findByStatus("active");
+	     List<Game> activeGames = gameCatalog.findByStatus("active");
 	     List<GameDto> gameDtos = activeGames.stream().map(GameMapper::toDto).collect(java.util.stream.Collectors.toList());
 	
 	     // 4. Get played history (transactions)
 	     List<Transaction> transactions = transactionRepo.findByMemberId(member.getId());
+	     // Resolve all game names in one pass over the in-memory catalog
+	     Set<String> gameIds = transactions.stream()
+	             .map(Transaction::getGameId)
+	             .filter(Objects::nonNull)
+	             .collect(Collectors.toSet());
+	     Map<String, String> gameNames = new HashMap<>();
+	     gameCatalog.findAllById(gameIds).forEach(game -> gameNames.put(game.getId(), game.getName()));
 	     List<PlayedHistoryDto> playedHistoryDtos = transactions.stream().map(transaction -> {
 	         PlayedHistoryDto dto = new PlayedHistoryDto();
 	         dto.setId(transaction.getId());
 	         dto.setDate_time(transaction.getDate());
 	         dto.setAmount(transaction.getAmount());
-	         gameRepo.findById(transaction.getGameId()).ifPresent(game -> dto.setGame_name(game.getName()));
+	         dto.setGame_name(gameNames.get(transaction.getGameId()));
 	         return dto;
 	     }).collect(java.util.stream.Collectors.toList());
 	
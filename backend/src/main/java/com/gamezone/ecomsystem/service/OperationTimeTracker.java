@@ -0,0 +1,43 @@
+package com.gamezone.ecomsystem.service;
+
+import org.bson.BsonValue;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Remembers, per thread, the operationTime of the last Mongo reply: the
+ * cluster time by which the server had applied that thread's last command.
+ * Right after a write it tells which cluster time the write is covered by,
+ * without another round trip.
+ *
+ * Like {@link RoundTripTracker}, this relies on the blocking driver reporting
+ * commands on the calling thread. Standalone servers send no operationTime;
+ * the thread then reports 0.
+ */
+@Service
+public class OperationTimeTracker implements CommandListener {
+
+    private final ThreadLocal<Long> last = new ThreadLocal<>();
+
+    /** Cluster time covering this thread's last command, or 0 if unknown. */
+    public long lastOperationTime() {
+        Long time = last.get();
+        return time == null ? 0 : time;
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        BsonValue time = event.getResponse().get("operationTime");
+        if (time != null && time.isTimestamp()) {
+            last.set(time.asTimestamp().getValue());
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        // A failed write may still have been applied, keep the time we had
+    }
+}
@@ -7,8 +7,14 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.dto.FieldSelection;
 import com.gamezone.ecomsystem.exception.BusinessException;
 import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
 import com.gamezone.ecomsystem.model.Product;
@@ -20,12 +26,19 @@ public class ProductService {
 
 	@Autowired
 	private ProductRepository repo;
+
+	@Autowired
+	private CacheInvalidationBus invalidationBus;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
 	
 	public Product create(Product product) {
 		log.info("Creating product: {}", product.getName());
 		product.setId(null);
 		validate(product);
 		Product savedProduct = repo.save(product);		
+		invalidationBus.publish(CacheInvalidationBus.PRODUCTS, savedProduct.getId());
 		return savedProduct;
 	}
 	public List<Product> findAll() {
@@ -33,10 +46,25 @@ public class ProductService {
 		List<Product> products = repo.findAll();
 		return products;
 	}
-	public Product findById(String id) {
+	public CursorPage<Product> findPage(String after, Integer limit, FieldSelection fields) {
+		log.info("Finding Products after cursor {}", after);
+		int size = CursorPage.resolveLimit(limit);
+		List<Product> products;
+		if (fields.isAll()) {
+			products = repo.findByIdGreaterThan(CursorPage.ascendingCursor(after), CursorPage.request(size, Sort.Direction.ASC));
+		} else {
+			Query query = new Query(Criteria.where("id").gt(CursorPage.ascendingCursor(after)))
+					.with(CursorPage.request(size, Sort.Direction.ASC));
+			products = mongoTemplate.find(fields.project(query), Product.class);
+		}
+		return CursorPage.of(products, size, Product::getId);
+	}
+	public Product findById(String id, FieldSelection fields) {
 		log.info("Finding Product By id {}", id);
 		
-		Optional<Product> optionalProduct = repo.findById(id);
+		Optional<Product> optionalProduct = fields.isAll()
+				? repo.findById(id)
+				: Optional.ofNullable(mongoTemplate.findOne(fields.project(new Query(Criteria.where("id").is(id))), Product.class));
 		if(optionalProduct.isEmpty()) {
 			log.error("Attempted to find non-existing product id: " + id);
 			throw new ResourceNotFoundException("Product not found: " + id);
@@ -60,6 +88,7 @@ public class ProductService {
 		oldProduct.setPrice(product.getPrice());
 		//
 		Product updatedProduct = repo.save(oldProduct);
+		invalidationBus.publish(CacheInvalidationBus.PRODUCTS, id);
 		return updatedProduct;
 	}
 	public boolean delete(String id) { 
@@ -70,6 +99,7 @@ public class ProductService {
 		}
 		log.info("Deleting Product By id {}", id);
 		repo.deleteById(id);
+		invalidationBus.publish(CacheInvalidationBus.PRODUCTS, id);
 		return true;
 	}
 	
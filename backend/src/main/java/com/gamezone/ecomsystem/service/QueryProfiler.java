@@ -0,0 +1,308 @@
+package com.gamezone.ecomsystem.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * In-process Mongo profiler, registered on the driver as a command listener
+ * (see MongoListenersConfig).
+ *
+ * Every data command is reduced to its {@link QueryShape} and aggregated per
+ * shape: executions, total and max time, documents returned or written, and
+ * how many ran over query-profiler.slow-threshold. getMore calls count
+ * towards the query that opened the cursor. A slow shape is logged with a
+ * sample command at most once per query-profiler.log-interval, together
+ * with how many slow runs were not logged since. The aggregates are served
+ * by the queryprofile actuator endpoint.
+ */
+@Service
+public class QueryProfiler implements CommandListener {
+    private static final Logger log = LoggerFactory.getLogger(QueryProfiler.class);
+
+    private static final int MAX_SAMPLE_LENGTH = 1000;
+    private static final int MAX_OPEN_CURSORS = 10_000;
+    private static final String OTHER = "(other shapes)";
+
+    @Value("${query-profiler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query-profiler.slow-threshold:100ms}")
+    private Duration slowThreshold;
+
+    @Value("${query-profiler.log-interval:10s}")
+    private Duration logInterval;
+
+    @Value("${query-profiler.max-shapes:1000}")
+    private int maxShapes;
+
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+    private final Map<Long, ShapeStats> openCursors = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        ShapeStats stats;
+        long cursorId = 0;
+        if ("getMore".equals(event.getCommandName())) {
+            BsonValue id = event.getCommand().get("getMore");
+            cursorId = id != null && id.isInt64() ? id.asInt64().getValue() : 0;
+            stats = openCursors.get(cursorId);
+        } else if ("killCursors".equals(event.getCommandName())) {
+            BsonValue ids = event.getCommand().get("cursors");
+            if (ids != null && ids.isArray()) {
+                ids.asArray().forEach(id -> openCursors.remove(id.isInt64() ? id.asInt64().getValue() : 0L));
+            }
+            return;
+        } else {
+            QueryShape shape = QueryShape.of(event.getCommandName(), event.getCommand());
+            stats = shape == null ? null : stats(shape);
+        }
+        if (stats != null) {
+            // The command document is only valid during the callback, so a sample is taken now if one may be logged
+            String sample = stats.logDue(System.nanoTime()) ? sample(event.getCommand()) : null;
+            pending.put(event.getRequestId(), new Pending(stats, sample, cursorId));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Pending started = pending.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        BsonDocument response = event.getResponse();
+        long docs = 0;
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().containsKey("firstBatch")
+                    ? cursor.asDocument().get("firstBatch") : cursor.asDocument().get("nextBatch");
+            docs = batch != null && batch.isArray() ? batch.asArray().size() : 0;
+            trackCursor(cursor.asDocument().get("id"), started);
+        } else if (response.get("n") != null && response.get("n").isNumber()) {
+            docs = response.get("n").asNumber().longValue();
+        } else if (response.get("values") != null && response.get("values").isArray()) {
+            docs = response.get("values").asArray().size();
+        }
+        record(started, event.getElapsedTime(TimeUnit.NANOSECONDS), docs, false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Pending started = pending.remove(event.getRequestId());
+        if (started != null) {
+            record(started, event.getElapsedTime(TimeUnit.NANOSECONDS), 0, true);
+        }
+    }
+
+    /** Every shape seen since startup or the last reset, most total time first. */
+    public List<ShapeStats> shapes() {
+        return shapes.values().stream()
+                .sorted(Comparator.comparingLong(ShapeStats::totalNanos).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        shapes.clear();
+        openCursors.clear();
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    private ShapeStats stats(QueryShape shape) {
+        ShapeStats stats = shapes.get(shape.getKey());
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= maxShapes) {
+            // Unbounded shapes usually mean values leaked into keys; keep counting without growing
+            return shapes.computeIfAbsent(OTHER, k -> new ShapeStats("*", "*", OTHER, logInterval.toNanos()));
+        }
+        return shapes.computeIfAbsent(shape.getKey(),
+                k -> new ShapeStats(shape.getCollection(), shape.getCommand(), k, logInterval.toNanos()));
+    }
+
+    private void trackCursor(BsonValue id, Pending started) {
+        long cursorId = id != null && id.isInt64() ? id.asInt64().getValue() : 0;
+        if (cursorId == 0) {
+            if (started.cursorId != 0) {
+                openCursors.remove(started.cursorId); // Exhausted
+            }
+            return;
+        }
+        if (openCursors.size() >= MAX_OPEN_CURSORS) {
+            openCursors.clear(); // Cursors abandoned without being exhausted or killed; forget them rather than grow
+        }
+        openCursors.put(cursorId, started.stats);
+    }
+
+    private void record(Pending started, long nanos, long docs, boolean failed) {
+        ShapeStats stats = started.stats;
+        stats.record(nanos, docs, failed);
+        if (nanos < slowThreshold.toNanos()) {
+            return;
+        }
+        long suppressed = stats.slow();
+        if (started.sample != null && stats.claimLog(System.nanoTime())) {
+            log.warn("Slow Mongo query: {} ms on {} ({} slow of {} runs, {} not logged since the last report). Sample: {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), stats.getShape(), stats.getSlowCount(), stats.getCount(),
+                    suppressed, started.sample);
+        }
+    }
+
+    private static String sample(BsonDocument command) {
+        BsonDocument sample = new BsonDocument();
+        for (String key : command.keySet()) {
+            if (key.startsWith("$") || "lsid".equals(key) || "txnNumber".equals(key)) {
+                continue; // Driver and session plumbing
+            }
+            BsonValue value = command.get(key);
+            if (value.isArray() && value.asArray().size() > 1) {
+                // Bulk statements: the first one stands for the rest
+                BsonArray first = new BsonArray(List.of(value.asArray().get(0)));
+                sample.put(key, first);
+                sample.put(key + "Count", new BsonInt32(value.asArray().size()));
+            } else {
+                sample.put(key, value);
+            }
+        }
+        String json = sample.toJson();
+        return json.length() > MAX_SAMPLE_LENGTH ? json.substring(0, MAX_SAMPLE_LENGTH) + "..." : json;
+    }
+
+    private static final class Pending {
+        final ShapeStats stats;
+        final String sample;
+        final long cursorId; // For getMore, the cursor being read
+
+        Pending(ShapeStats stats, String sample, long cursorId) {
+            this.stats = stats;
+            this.sample = sample;
+            this.cursorId = cursorId;
+        }
+    }
+
+    /** Running totals for one query shape. */
+    public static final class ShapeStats {
+        private final String collection;
+        private final String command;
+        private final String shape;
+        private final long logIntervalNanos;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder docs = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder slowSinceLog = new LongAdder();
+        private final AtomicLong nextLogAt;
+
+        ShapeStats(String collection, String command, String shape, long logIntervalNanos) {
+            this.collection = collection;
+            this.command = command;
+            this.shape = shape;
+            this.logIntervalNanos = logIntervalNanos;
+            this.nextLogAt = new AtomicLong(System.nanoTime());
+        }
+
+        void record(long nanos, long returned, boolean failed) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            docs.add(returned);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        /** Counts a slow run and returns how many slow runs went unlogged before it. */
+        long slow() {
+            slowCount.increment();
+            slowSinceLog.increment();
+            return slowSinceLog.sum() - 1;
+        }
+
+        boolean logDue(long now) {
+            return now - nextLogAt.get() >= 0;
+        }
+
+        /** At most one caller per interval wins the right to log. */
+        boolean claimLog(long now) {
+            long due = nextLogAt.get();
+            if (now - due < 0 || !nextLogAt.compareAndSet(due, now + logIntervalNanos)) {
+                return false;
+            }
+            slowSinceLog.reset();
+            return true;
+        }
+
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        public String getCollection() {
+            return collection;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public String getShape() {
+            return shape;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getTotalMillis() {
+            return totalNanos.sum() / 1e6;
+        }
+
+        public double getMeanMillis() {
+            long runs = count.sum();
+            return runs == 0 ? 0 : totalNanos.sum() / 1e6 / runs;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1e6;
+        }
+
+        public long getDocs() {
+            return docs.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getSlowCount() {
+            return slowCount.sum();
+        }
+    }
+}
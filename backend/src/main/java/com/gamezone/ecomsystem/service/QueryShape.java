@@ -0,0 +1,167 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * The shape of a Mongo command: collection, command name and the filter,
+ * sort, projection and update with every literal replaced by "?". Two
+ * queries that differ only in their values share a shape, so
+ * {@code {name: /halo/i}} and {@code {name: /chess/i}} both become
+ * {@code {"name": "/?/"}}. Regexes keep a marker of their own because they
+ * are the usual reason a filter cannot use an index.
+ */
+final class QueryShape {
+    private static final BsonString VALUE = new BsonString("?");
+    private static final BsonString REGEX = new BsonString("/?/");
+    private static final BsonString VALUES = new BsonString("[?]");
+
+    // Pipeline stages that carry no user values; the rest are stripped like filters
+    private static final Set<String> STRUCTURAL_STAGES = Set.of("$sort", "$project", "$group", "$unwind", "$lookup",
+            "$count", "$replaceRoot", "$addFields", "$set", "$unset", "$sortByCount");
+
+    private final String collection;
+    private final String command;
+    private final String key;
+
+    private QueryShape(String collection, String command, BsonDocument shape) {
+        this.collection = collection;
+        this.command = command;
+        this.key = collection + " " + command + " " + shape.toJson();
+    }
+
+    /**
+     * The shape of a data command, or null for commands that are not
+     * profiled (handshakes, auth, cursor cleanup) and for getMore, which
+     * belongs to the shape of the query that opened the cursor.
+     */
+    static QueryShape of(String commandName, BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        switch (commandName) {
+            case "find":
+                put(shape, "filter", strip(command.get("filter")));
+                put(shape, "sort", command.get("sort"));
+                put(shape, "projection", command.get("projection"));
+                break;
+            case "aggregate":
+                put(shape, "pipeline", pipeline(command.get("pipeline")));
+                break;
+            case "count":
+            case "distinct":
+                put(shape, "key", command.get("key"));
+                put(shape, "query", strip(command.get("query")));
+                break;
+            case "findAndModify":
+                put(shape, "query", strip(command.get("query")));
+                put(shape, "sort", command.get("sort"));
+                put(shape, "fields", command.get("fields"));
+                put(shape, "update", strip(command.get("update")));
+                break;
+            case "update":
+                BsonDocument update = first(command.get("updates"));
+                if (update != null) {
+                    put(shape, "q", strip(update.get("q")));
+                    put(shape, "u", strip(update.get("u")));
+                    put(shape, "multi", update.get("multi"));
+                    put(shape, "upsert", update.get("upsert"));
+                }
+                break;
+            case "delete":
+                BsonDocument delete = first(command.get("deletes"));
+                if (delete != null) {
+                    put(shape, "q", strip(delete.get("q")));
+                }
+                break;
+            case "insert":
+                break;
+            default:
+                return null;
+        }
+        BsonValue collection = command.get(commandName);
+        return new QueryShape(collection != null && collection.isString() ? collection.asString().getValue() : "?", commandName, shape);
+    }
+
+    String getCollection() {
+        return collection;
+    }
+
+    String getCommand() {
+        return command;
+    }
+
+    /** Collection, command and normalized document, one line. */
+    String getKey() {
+        return key;
+    }
+
+    static BsonValue strip(BsonValue value) {
+        if (value == null) {
+            return null;
+        }
+        switch (value.getBsonType()) {
+            case DOCUMENT:
+                BsonDocument stripped = new BsonDocument();
+                for (var entry : value.asDocument().entrySet()) {
+                    stripped.put(entry.getKey(), strip(entry.getValue()));
+                }
+                return stripped;
+            case ARRAY:
+                // $and/$or branches keep their shape, value lists ($in, $all) collapse whatever their length
+                BsonArray array = value.asArray();
+                if (array.isEmpty() || !array.stream().allMatch(BsonValue::isDocument)) {
+                    return VALUES;
+                }
+                Set<BsonValue> branches = new LinkedHashSet<>();
+                for (BsonValue branch : array) {
+                    branches.add(strip(branch));
+                }
+                return new BsonArray(branches.stream().toList());
+            case REGULAR_EXPRESSION:
+                return REGEX;
+            default:
+                return VALUE;
+        }
+    }
+
+    private static BsonValue pipeline(BsonValue pipeline) {
+        if (pipeline == null || !pipeline.isArray()) {
+            return null;
+        }
+        BsonArray stages = new BsonArray();
+        for (BsonValue stage : pipeline.asArray()) {
+            if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+                continue;
+            }
+            String name = stage.asDocument().getFirstKey();
+            BsonValue body = stage.asDocument().get(name);
+            if ("$facet".equals(name) && body.isDocument()) {
+                BsonDocument facets = new BsonDocument();
+                body.asDocument().forEach((facet, inner) -> facets.put(facet, pipeline(inner)));
+                body = facets;
+            } else if (!STRUCTURAL_STAGES.contains(name)) {
+                body = strip(body);
+            }
+            stages.add(new BsonDocument(name, body));
+        }
+        return stages;
+    }
+
+    private static BsonDocument first(BsonValue statements) {
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) {
+            return null;
+        }
+        BsonValue first = statements.asArray().get(0);
+        return first.isDocument() ? first.asDocument() : null;
+    }
+
+    private static void put(BsonDocument shape, String key, BsonValue value) {
+        if (value != null) {
+            shape.put(key, value);
+        }
+    }
+}
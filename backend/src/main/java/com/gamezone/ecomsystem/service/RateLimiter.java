@@ -0,0 +1,208 @@
+package com.gamezone.ecomsystem.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-member and per-client-IP token buckets for the write endpoints, so a
+ * single kiosk or script cannot take the whole Mongo connection pool.
+ *
+ * Each endpoint has its own limits, read from
+ * rate-limit.&lt;endpoint&gt;.member.* and rate-limit.&lt;endpoint&gt;.ip.*:
+ * capacity is the burst a key may send at once, refill-per-second the rate
+ * it may keep up. A capacity of 0 turns that key off. The batch endpoints
+ * have limits of their own under rate-limit.&lt;endpoint&gt;-batch.*, charged
+ * one token per request. Over the limit,
+ * {@link #acquire} throws a {@link RateLimitExceededException} that is
+ * answered with 429 and Retry-After. Buckets idle for
+ * rate-limit.idle-timeout are evicted in the background.
+ */
+@Service
+public class RateLimiter {
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    public static final String TRANSACTIONS = "transactions";
+    public static final String RECHARGES = "recharges";
+    private static final String BATCH = "-batch";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    @Value("${rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private ScheduledExecutorService evictor;
+
+    @PostConstruct
+    void init() {
+        long period = Math.max(1, Math.min(idleTimeout.toSeconds(), 60));
+        evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limit-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.SECONDS);
+        Gauge.builder("gamezone.ratelimit.buckets", endpoints,
+                        all -> all.values().stream().mapToInt(Endpoint::size).sum())
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        evictor.shutdownNow();
+    }
+
+    /**
+     * Takes a token from the client IP's bucket and the member's bucket for
+     * the endpoint, or throws if either is empty. Nothing is looked up: a
+     * made-up memberId gets a bucket like any other, and the table stays
+     * bounded by the IP limit charged first, idle eviction and
+     * rate-limit.max-buckets. A null IP is not limited.
+     */
+    public void acquire(String endpoint, String memberId, String clientIp) {
+        acquire(endpoint, memberId == null ? Set.of() : Set.of(memberId), clientIp);
+    }
+
+    /**
+     * The batch form of {@link #acquire}, against the endpoint's batch limits:
+     * one token per request, whatever its size, from the client IP and from
+     * each member in it, all or nothing. The batch size itself is bounded by
+     * batch.max-items. Member limits are off by default for batches, since a
+     * single batch may name thousands of members.
+     */
+    public void acquireBatch(String endpoint, List<String> memberIds, String clientIp) {
+        Set<String> members = new HashSet<>(memberIds);
+        members.remove(null);
+        acquire(endpoint + BATCH, members, clientIp);
+    }
+
+    private void acquire(String endpoint, Set<String> memberIds, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        Endpoint limits = endpoints.computeIfAbsent(endpoint, this::endpoint);
+        long now = System.nanoTime();
+        boolean chargedIp = false;
+        if (limits.byIp != null && clientIp != null) {
+            long wait = limits.byIp.tryAcquire(clientIp, now);
+            if (wait > 0) {
+                limits.ipRejected.increment();
+                throw rejected("Too many requests from this client", wait);
+            }
+            chargedIp = true;
+        }
+        if (limits.byMember == null) {
+            return;
+        }
+        List<String> charged = new ArrayList<>();
+        for (String memberId : memberIds) {
+            long wait = limits.byMember.tryAcquire(memberId, now);
+            if (wait > 0) {
+                // All or nothing: hand back what this request already took
+                charged.forEach(limits.byMember::release);
+                if (chargedIp) {
+                    limits.byIp.release(clientIp);
+                }
+                limits.memberRejected.increment();
+                throw rejected("Too many requests for this member", wait);
+            }
+            charged.add(memberId);
+        }
+    }
+
+    void evictIdle() {
+        long now = System.nanoTime();
+        long idle = idleTimeout.toNanos();
+        for (Endpoint limits : endpoints.values()) {
+            if (limits.byIp != null) {
+                limits.byIp.evictIdle(now, idle);
+            }
+            if (limits.byMember != null) {
+                limits.byMember.evictIdle(now, idle);
+            }
+        }
+    }
+
+    private Endpoint endpoint(String name) {
+        boolean batch = name.endsWith(BATCH);
+        TokenBuckets byMember = buckets(name, "member", batch ? 0 : 10, 2);
+        TokenBuckets byIp = buckets(name, "ip", batch ? 10 : 100, batch ? 1 : 20);
+        return new Endpoint(byMember, byIp, rejections(name, "member"), rejections(name, "ip"));
+    }
+
+    private TokenBuckets buckets(String endpoint, String key, int capacity, double refillPerSecond) {
+        String prefix = "rate-limit." + endpoint + "." + key + ".";
+        int burst = environment.getProperty(prefix + "capacity", Integer.class, capacity);
+        double rate = environment.getProperty(prefix + "refill-per-second", Double.class, refillPerSecond);
+        if (burst <= 0 || rate <= 0) {
+            return null;
+        }
+        log.info("Rate limiting {} per {}: {} requests, refilled at {} per second", endpoint, key, burst, rate);
+        return new TokenBuckets(burst, rate, maxBuckets);
+    }
+
+    private Counter rejections(String endpoint, String key) {
+        return Counter.builder("gamezone.ratelimit.rejected")
+                .description("Requests answered with 429 by the rate limiter")
+                .tag("endpoint", endpoint)
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    private static RateLimitExceededException rejected(String message, long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        return new RateLimitExceededException(message + ", retry in " + seconds + " s.", seconds);
+    }
+
+    private static final class Endpoint {
+        final TokenBuckets byMember;
+        final TokenBuckets byIp;
+        final Counter memberRejected;
+        final Counter ipRejected;
+
+        Endpoint(TokenBuckets byMember, TokenBuckets byIp, Counter memberRejected, Counter ipRejected) {
+            this.byMember = byMember;
+            this.byIp = byIp;
+            this.memberRejected = memberRejected;
+            this.ipRejected = ipRejected;
+        }
+
+        int size() {
+            return (byMember == null ? 0 : byMember.size()) + (byIp == null ? 0 : byIp.size());
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package com.gamezone.ecomsystem.service;
 
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 
+import com.gamezone.ecomsystem.dto.BatchResult;
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.exception.BusinessException;
-import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
-import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.LedgerEntry;
 import com.gamezone.ecomsystem.model.Recharge;
-import com.gamezone.ecomsystem.repository.MemberRepository;
 import com.gamezone.ecomsystem.repository.RechargeRepository;
+import com.mongodb.bulk.BulkWriteError;
 
+import io.micrometer.core.annotation.Timed;
+
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Service
 public class RechargeService {
@@ -22,23 +33,105 @@ public class RechargeService {
     private RechargeRepository repo;
 
     @Autowired
-    private MemberRepository memberRepo; // To update member balance
+    private WalletService walletService; // To update member balance
+
+    @Autowired
+    private StatsService statsService;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Timed(value = "gamezone.recharges.create", description = "Wallet recharges", histogram = true)
     public Recharge create(Recharge recharge) {
         log.info("Creating recharge for member: {}", recharge.getMemberId());
-        recharge.setId(null);
+        recharge.setId(new ObjectId().toHexString()); // Known up front so the ledger can reference it
         validate(recharge);
+        if (recharge.getDate() == null) {
+            recharge.setDate(new Date()); // History, paging and exports are all ordered by date
+        }
 
         // --- Business Logic ---
-        // Find the member and update their balance
-        Member member = memberRepo.findById(recharge.getMemberId())
-                .orElseThrow(() -> new ResourceNotFoundException("Cannot create recharge: Member not found with id: " + recharge.getMemberId()));
-
-        member.setBalance(member.getBalance() + recharge.getAmount());
-        memberRepo.save(member);
+        // Credit the member's balance atomically, the ledger entry links back to this recharge
+        double newBalance = walletService.credit(recharge.getMemberId(), recharge.getAmount(),
+                LedgerEntry.REF_RECHARGE, recharge.getId());
+        log.debug("Member {} balance after recharge: {}", recharge.getMemberId(), newBalance);
         // --- End Logic ---
 
-        return repo.save(recharge);
+        Recharge savedRecharge;
+        try {
+            savedRecharge = repo.insert(recharge);
+        } catch (RuntimeException e) {
+            // Take the credit back so a failed insert does not mint money
+            walletService.reverse(recharge.getMemberId(), LedgerEntry.CREDIT, recharge.getAmount(), recharge.getId());
+            throw e;
+        }
+        statsService.recordRecharge(savedRecharge.getAmount());
+        return savedRecharge;
+    }
+
+    /**
+     * Creates many recharges at once, for partner cafés syncing offline
+     * top-ups. Works like {@link TransactionService#createBatch(List)}.
+     */
+    public BatchResult createBatch(List<Recharge> recharges) {
+        log.info("Creating batch of {} recharges", recharges.size());
+        String[] ids = new String[recharges.size()];
+        String[] errors = new String[recharges.size()];
+        Date now = new Date();
+        IntStream.range(0, recharges.size()).parallel().forEach(i -> {
+            Recharge recharge = recharges.get(i);
+            ids[i] = new ObjectId().toHexString();
+            recharge.setId(ids[i]);
+            errors[i] = prepare(recharge, now);
+        });
+
+        List<Integer> credited = new ArrayList<>();
+        List<WalletChange> changes = new ArrayList<>();
+        for (int i = 0; i < recharges.size(); i++) {
+            if (errors[i] == null) {
+                Recharge recharge = recharges.get(i);
+                credited.add(i);
+                changes.add(new WalletChange(recharge.getMemberId(), LedgerEntry.CREDIT, recharge.getAmount(),
+                        LedgerEntry.REF_RECHARGE, recharge.getId()));
+            }
+        }
+        String[] walletErrors = walletService.applyBatch(changes);
+
+        List<Integer> accepted = new ArrayList<>();
+        List<Recharge> records = new ArrayList<>();
+        for (int k = 0; k < credited.size(); k++) {
+            int i = credited.get(k);
+            if (walletErrors[k] != null) {
+                errors[i] = walletErrors[k];
+            } else {
+                accepted.add(i);
+                records.add(recharges.get(i));
+            }
+        }
+        if (!records.isEmpty()) {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Recharge.class).insert(records).execute();
+            } catch (BulkOperationException e) {
+                log.error("Failed to save {} of {} batched recharges", e.getErrors().size(), records.size(), e);
+                for (BulkWriteError error : e.getErrors()) {
+                    Recharge recharge = records.get(error.getIndex());
+                    // Take the credit back so a failed insert does not mint money
+                    walletService.reverse(recharge.getMemberId(), LedgerEntry.CREDIT, recharge.getAmount(), recharge.getId());
+                    errors[accepted.get(error.getIndex())] = "Could not save the recharge.";
+                }
+            }
+        }
+
+        long created = 0;
+        double total = 0;
+        for (int i : accepted) {
+            if (errors[i] == null) {
+                created++;
+                total += recharges.get(i).getAmount();
+            }
+        }
+        statsService.recordRecharges(created, total);
+        return new BatchResult(ids, errors);
     }
 
     public List<Recharge> findAll() {
@@ -46,11 +139,44 @@ public class RechargeService {
         return repo.findAll();
     }
     
+    public CursorPage<Recharge> findPage(String after, Integer limit) {
+        log.info("Finding recharges before cursor: {}", after);
+        int size = CursorPage.resolveLimit(limit);
+        List<Recharge> recharges = repo.findByIdLessThan(CursorPage.descendingCursor(after), CursorPage.request(size, Sort.Direction.DESC));
+        return CursorPage.of(recharges, size, Recharge::getId);
+    }
+
+    public CursorPage<Recharge> findPageByMemberId(String memberId, String after, Integer limit) {
+        log.info("Finding recharges for member id: {} before cursor: {}", memberId, after);
+        int size = CursorPage.resolveLimit(limit);
+        List<Recharge> recharges = repo.findByMemberIdAndIdLessThan(memberId, CursorPage.descendingCursor(after), CursorPage.request(size, Sort.Direction.DESC));
+        return CursorPage.of(recharges, size, Recharge::getId);
+    }
+
     public List<Recharge> findByMemberId(String memberId) {
         log.info("Finding recharges for member id: {}", memberId);
         return repo.findByMemberId(memberId);
     }
 
+    /**
+     * Checks one batch item the way {@link #create} does.
+     * Returns the error, or null if the item can go ahead.
+     */
+    private String prepare(Recharge recharge, Date now) {
+        if (recharge.getMemberId() == null || recharge.getMemberId().isBlank()) {
+            return "Member id is required.";
+        }
+        if (recharge.getDate() == null) {
+            recharge.setDate(now);
+        }
+        try {
+            validate(recharge);
+            return null;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
+
     private void validate(Recharge recharge) {
         if (recharge.getAmount() <= 0) {
             throw new BusinessException("Recharge amount must be positive.");
@@ -0,0 +1,113 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * Version counters behind the ETags of the catalog and profile reads.
+ *
+ * Every write the {@link CacheInvalidationBus} hears about, local or from
+ * another instance, bumps the version of its collection and of the document.
+ * When the transport reports cluster times (the change stream does) the
+ * version is the cluster time of the write, and a document or collection
+ * nobody wrote since this instance started reports the cluster time the
+ * stream started from. A tag then means "the data as of that cluster time",
+ * so it is the same on every instance that has seen the same writes and
+ * survives restarts. The instance that made a write versions it a little
+ * later, at the operationTime its driver saw, because it updates its caches
+ * before the stream reports the write; until the next write its tag differs
+ * from the other instances', which only costs a full response. Without cluster times (loopback, or a standalone
+ * server) versions come from a local counter and tags carry a per-process
+ * epoch, so they never match across restarts or between instances, which
+ * only costs a full response.
+ *
+ * Versions only ever grow. Per-document versions are kept for a bounded
+ * number of recently written documents; a document without an entry reports
+ * the highest version ever evicted, which is never lower than any version it
+ * had before.
+ */
+@Service
+public class ResourceVersions {
+
+    private static final long MAX_TRACKED_DOCUMENTS = 100_000;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong evictedFloor = new AtomicLong();
+    private volatile long baseline;
+    private volatile boolean clusterTimes;
+    private final Map<String, AtomicLong> collections = new ConcurrentHashMap<>();
+    private final Cache<String, Long> documents = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_DOCUMENTS)
+            .executor(Runnable::run)
+            .removalListener((String key, Long version, RemovalCause cause) -> {
+                if (version != null) {
+                    evictedFloor.accumulateAndGet(version, Math::max);
+                }
+            })
+            .build();
+
+    /**
+     * Switches to cluster-time versions, given the cluster time from which
+     * the transport reports every write; 0 keeps the local counter.
+     */
+    public void startAt(long clusterTime) {
+        if (clusterTime == 0) {
+            return;
+        }
+        clock.accumulateAndGet(clusterTime, Math::max);
+        evictedFloor.accumulateAndGet(clusterTime, Math::max);
+        baseline = clusterTime;
+        clusterTimes = true;
+    }
+
+    public void bump(String collection, String id, long clusterTime) {
+        long version = clusterTime == 0 ? clock.incrementAndGet() : clusterTime;
+        clock.accumulateAndGet(version, Math::max);
+        collections.computeIfAbsent(collection, k -> new AtomicLong()).accumulateAndGet(version, Math::max);
+        if (id == null) {
+            // Every document in the collection may have changed
+            documents.asMap().keySet().removeIf(key -> key.startsWith(collection + "/"));
+            evictedFloor.accumulateAndGet(version, Math::max);
+        } else {
+            documents.asMap().merge(collection + "/" + id, version, Math::max);
+        }
+    }
+
+    /** Strong ETag for a whole collection, e.g. a list endpoint. */
+    public String etag(String collection) {
+        AtomicLong version = collections.get(collection);
+        return tag(version == null ? baseline : version.get());
+    }
+
+    /** Strong ETag for a single document. */
+    public String etag(String collection, String id) {
+        Long version = documents.getIfPresent(collection + "/" + id);
+        return tag(version == null ? evictedFloor.get() : version);
+    }
+
+    /**
+     * The tag of one content coding of a representation, e.g. its gzip
+     * bytes. Strong tags must differ between codings of the same data.
+     */
+    public static String forCoding(String etag, String coding) {
+        if (coding == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + coding + "\"";
+    }
+
+    private String tag(long version) {
+        if (clusterTimes) {
+            return "\"" + version + "\"";
+        }
+        return "\"" + epoch + "-" + version + "\"";
+    }
+}
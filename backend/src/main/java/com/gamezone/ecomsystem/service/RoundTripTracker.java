@@ -0,0 +1,97 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Counts the Mongo round trips of the unit of work running on the current
+ * thread (see {@link RoundTrips}). RoundTripFilter opens one per HTTP
+ * request; DataInitializationService one for the startup seeding.
+ *
+ * The blocking driver reports commands on the calling thread, which is what
+ * ties a command to its unit. Work handed to other threads (parallel
+ * streams, executors) and the reactive endpoints are not counted.
+ *
+ * A shape repeated more than round-trips.repeat-threshold times in one unit
+ * is logged as a likely N+1. Listeners, such as tests asserting a round-trip
+ * budget, see every finished unit.
+ */
+@Service
+public class RoundTripTracker implements CommandListener {
+    private static final Logger log = LoggerFactory.getLogger(RoundTripTracker.class);
+
+    @Value("${round-trips.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    private final ThreadLocal<RoundTrips> current = new ThreadLocal<>();
+    private final List<Consumer<RoundTrips>> listeners = new CopyOnWriteArrayList<>();
+
+    public RoundTrips begin(String name) {
+        RoundTrips trips = new RoundTrips(name, repeatThreshold);
+        current.set(trips);
+        return trips;
+    }
+
+    public void end(RoundTrips trips) {
+        current.remove();
+        trips.getRepeated().forEach((shape, count) ->
+                log.warn("Possible N+1 in {}: {} ran {} times", trips.getName(), shape, count));
+        for (Consumer<RoundTrips> listener : listeners) {
+            listener.accept(trips);
+        }
+    }
+
+    public void addListener(Consumer<RoundTrips> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<RoundTrips> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        RoundTrips trips = current.get();
+        if (trips == null) {
+            return;
+        }
+        if ("getMore".equals(event.getCommandName())) {
+            BsonValue collection = event.getCommand().get("collection");
+            trips.started((collection != null && collection.isString() ? collection.asString().getValue() : "?") + " getMore");
+            return;
+        }
+        QueryShape shape = QueryShape.of(event.getCommandName(), event.getCommand());
+        if (shape != null) {
+            trips.started(shape.getKey());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        RoundTrips trips = current.get();
+        if (trips != null) {
+            trips.finished(event.getElapsedTime(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        RoundTrips trips = current.get();
+        if (trips != null) {
+            trips.finished(event.getElapsedTime(TimeUnit.NANOSECONDS));
+        }
+    }
+}
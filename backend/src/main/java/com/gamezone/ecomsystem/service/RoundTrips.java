@@ -0,0 +1,80 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Mongo commands issued by one unit of work, an HTTP request or the
+ * startup seeding: how many, the time spent in them and how often each
+ * {@link QueryShape} ran. Confined to the thread that opened it through
+ * {@link RoundTripTracker#begin(String)}.
+ */
+public final class RoundTrips {
+    private final int repeatThreshold;
+    private String name;
+    private int commands;
+    private long nanos;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+    RoundTrips(String name, int repeatThreshold) {
+        this.name = name;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    void started(String shape) {
+        commands++;
+        shapes.merge(shape, 1, Integer::sum);
+    }
+
+    void finished(long elapsedNanos) {
+        nanos += elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Renames the unit, e.g. once the handler's URI pattern is known. */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCommands() {
+        return commands;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /** Commands per shape, in the order the shapes first ran. */
+    public Map<String, Integer> getShapes() {
+        return shapes;
+    }
+
+    /**
+     * Shapes that ran more than round-trips.repeat-threshold times: the
+     * same query issued once per item of a result, the N+1 pattern.
+     */
+    public Map<String, Integer> getRepeated() {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count > repeatThreshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+
+    /** Value for the Server-Timing response header. */
+    public String serverTiming() {
+        return String.format(Locale.ROOT, "mongo;dur=%.2f;desc=\"%d commands\"", nanos / 1e6, commands);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s: %d Mongo commands in %d ms", name, commands, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+}
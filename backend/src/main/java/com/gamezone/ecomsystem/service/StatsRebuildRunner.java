@@ -0,0 +1,31 @@
+package com.gamezone.ecomsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.model.PlatformStats;
+
+/**
+ * Rebuilds the platform stats document on startup when the application is
+ * launched with {@code --rebuild-stats}.
+ */
+@Service
+public class StatsRebuildRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(StatsRebuildRunner.class);
+
+    @Autowired
+    private StatsService statsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("rebuild-stats")) {
+            PlatformStats stats = statsService.rebuild();
+            log.info("Platform stats rebuilt: {} members, {} transactions, {} recharges",
+                    stats.getTotalMembers(), stats.getTotalTransactions(), stats.getTotalRecharges());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.count;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.PlatformStats;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+
+/**
+ * Platform statistics for the admin dashboard.
+ *
+ * The counters live in a single {@link PlatformStats} document that the
+ * write paths keep current with $inc, so reading them is one lookup by id.
+ * The recent-10 lists are a $sort+$limit on the indexed date field.
+ * {@link #rebuild()} recomputes the counters from scratch with aggregations
+ * to repair any drift; it also runs on the first read if the document is missing.
+ */
+@Service
+public class StatsService {
+    private static final Logger log = LoggerFactory.getLogger(StatsService.class);
+
+    private static final int RECENT_LIMIT = 10;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public Map<String, Object> getAdminStats() {
+        log.info("Reading admin stats");
+        PlatformStats counters = mongoTemplate.findById(PlatformStats.ID, PlatformStats.class);
+        if (counters == null) {
+            counters = rebuild();
+        }
+
+        return toAdminStats(counters, mongoTemplate.find(recentQuery(), Transaction.class),
+                mongoTemplate.find(recentQuery(), Recharge.class));
+    }
+
+    /** The newest activity first, limited to what the dashboard lists. */
+    public Query recentQuery() {
+        return new Query().with(Sort.by(Sort.Direction.DESC, "date")).limit(RECENT_LIMIT);
+    }
+
+    /**
+     * Shapes the counters and recent activity into the admin dashboard
+     * response. Shared with the reactive endpoint, which reads them itself.
+     */
+    public Map<String, Object> toAdminStats(PlatformStats counters, List<Transaction> recentTransactions, List<Recharge> recentRecharges) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalMembers", (int) counters.getTotalMembers());
+        stats.put("activeMembers", counters.getActiveMembers());
+        stats.put("totalGames", (int) counters.getTotalGames());
+        stats.put("totalTransactions", (int) counters.getTotalTransactions());
+        stats.put("totalRevenue", counters.getTotalRevenue());
+        stats.put("totalRecharges", (int) counters.getTotalRecharges());
+        stats.put("totalRechargeAmount", counters.getTotalRechargeAmount());
+
+        stats.put("recentTransactions", recentTransactions.stream()
+                .map(transaction -> {
+                    Map<String, Object> tx = new HashMap<>();
+                    tx.put("id", transaction.getId());
+                    tx.put("amount", transaction.getAmount());
+                    tx.put("date", transaction.getDate());
+                    tx.put("memberId", transaction.getMemberId());
+                    tx.put("gameId", transaction.getGameId());
+                    return tx;
+                })
+                .collect(Collectors.toList()));
+        stats.put("recentRecharges", recentRecharges.stream()
+                .map(recharge -> {
+                    Map<String, Object> rc = new HashMap<>();
+                    rc.put("id", recharge.getId());
+                    rc.put("amount", recharge.getAmount());
+                    rc.put("date", recharge.getDate());
+                    rc.put("memberId", recharge.getMemberId());
+                    return rc;
+                })
+                .collect(Collectors.toList()));
+
+        return stats;
+    }
+
+    /**
+     * Shapes one member's dashboard response from their records and the game
+     * catalog. Shared by the MVC and reactive endpoints.
+     */
+    public Map<String, Object> toUserDashboard(Member member, List<Transaction> transactions, List<Recharge> recharges, List<Game> games) {
+        Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("member", Map.of(
+            "id", member.getId(),
+            "name", member.getName(),
+            "email", member.getEmail(),
+            "balance", member.getBalance(),
+            "phoneNumber", member.getPhoneNumber()
+        ));
+        dashboard.put("transactions", transactions);
+        dashboard.put("recharges", recharges);
+        dashboard.put("games", games);
+        dashboard.put("totalSpent", transactions.stream().mapToDouble(Transaction::getAmount).sum());
+        dashboard.put("totalRecharged", recharges.stream().mapToDouble(Recharge::getAmount).sum());
+        return dashboard;
+    }
+
+    /**
+     * Recomputes every counter with server-side aggregations and overwrites
+     * the stats document. Increments that land while it runs may be lost, so
+     * run it when write traffic is low.
+     */
+    public PlatformStats rebuild() {
+        log.info("Rebuilding platform stats");
+        PlatformStats counters = new PlatformStats();
+
+        Document members = aggregateMembers();
+        counters.setTotalMembers(countOf(members, "totals"));
+        counters.setActiveMembers(countOf(members, "active"));
+        counters.setTotalGames(mongoTemplate.count(new Query(), Game.class));
+
+        Document transactions = aggregateActivity(Transaction.class);
+        counters.setTotalTransactions(transactions == null ? 0 : ((Number) transactions.get("count")).longValue());
+        counters.setTotalRevenue(transactions == null ? 0.0 : ((Number) transactions.get("total")).doubleValue());
+
+        Document recharges = aggregateActivity(Recharge.class);
+        counters.setTotalRecharges(recharges == null ? 0 : ((Number) recharges.get("count")).longValue());
+        counters.setTotalRechargeAmount(recharges == null ? 0.0 : ((Number) recharges.get("total")).doubleValue());
+
+        counters.setRebuiltAt(new Date());
+        mongoTemplate.save(counters);
+        return counters;
+    }
+
+    public void recordMemberCreated(double balance) {
+        increment(new Update().inc("totalMembers", 1).inc("activeMembers", balance > 0 ? 1 : 0));
+    }
+
+    public void recordMemberDeleted(double balance) {
+        increment(new Update().inc("totalMembers", -1).inc("activeMembers", balance > 0 ? -1 : 0));
+    }
+
+    /**
+     * Keeps activeMembers in step when a balance change crosses zero.
+     */
+    public void recordBalanceChange(double before, double after) {
+        if (before <= 0 && after > 0) {
+            increment(new Update().inc("activeMembers", 1));
+        } else if (before > 0 && after <= 0) {
+            increment(new Update().inc("activeMembers", -1));
+        }
+    }
+
+    public void recordGameCreated() {
+        increment(new Update().inc("totalGames", 1));
+    }
+
+    public void recordGameDeleted() {
+        increment(new Update().inc("totalGames", -1));
+    }
+
+    public void recordTransaction(double amount) {
+        increment(new Update().inc("totalTransactions", 1).inc("totalRevenue", amount));
+    }
+
+    public void recordRecharge(double amount) {
+        increment(new Update().inc("totalRecharges", 1).inc("totalRechargeAmount", amount));
+    }
+
+    /** A batch of transactions as one increment. */
+    public void recordTransactions(long count, double amount) {
+        if (count > 0) {
+            increment(new Update().inc("totalTransactions", count).inc("totalRevenue", amount));
+        }
+    }
+
+    /** A batch of recharges as one increment. */
+    public void recordRecharges(long count, double amount) {
+        if (count > 0) {
+            increment(new Update().inc("totalRecharges", count).inc("totalRechargeAmount", amount));
+        }
+    }
+
+    private void increment(Update update) {
+        // No upsert: until the document has been built from scratch, increments alone would be wrong
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(PlatformStats.ID)), update, PlatformStats.class);
+    }
+
+    private Document aggregateMembers() {
+        Aggregation aggregation = newAggregation(
+                facet(count().as("count")).as("totals")
+                        .and(match(Criteria.where("balance").gt(0)), count().as("count")).as("active"));
+        return mongoTemplate.aggregate(aggregation, Member.class, Document.class).getUniqueMappedResult();
+    }
+
+    private Document aggregateActivity(Class<?> type) {
+        Aggregation aggregation = newAggregation(group().count().as("count").sum("amount").as("total"));
+        return mongoTemplate.aggregate(aggregation, type, Document.class).getUniqueMappedResult();
+    }
+
+    private long countOf(Document facets, String facet) {
+        // Facets over an empty collection come back as empty arrays
+        List<Document> results = facets.getList(facet, Document.class);
+        return results.isEmpty() ? 0 : ((Number) results.get(0).get("count")).longValue();
+    }
+}
@@ -0,0 +1,362 @@
+package com.gamezone.ecomsystem.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.model.BalanceSnapshot;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.LedgerEntry;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.PlatformStats;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Fills the database with production-shaped synthetic data for performance
+ * work. Runs instead of {@link DataInitializationService} under the "seed"
+ * profile; volumes and tuning come from the seed.* properties, which can be
+ * overridden on the command line:
+ *
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=seed --seed.members=1000000 --seed.transactions=100000000
+ * </pre>
+ *
+ * Member and game activity follow a Zipf distribution (seed.skew), so a few
+ * members and games carry most purchases. Data is generated in batches of
+ * seed.batch-size on seed.threads workers and written with unordered
+ * insertMany calls; every batch draws from its own random stream derived
+ * from seed.random-seed, so the same settings always produce the same shape.
+ *
+ * Balances are opening balances: the ledger starts empty and the purchase
+ * and recharge history is imported as is, so wallet replays agree with the
+ * member documents. Platform stats are rebuilt at the end.
+ */
+@Service
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeeder.class);
+
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+
+    private static final String[] ADJECTIVES = { "Iron", "Neon", "Silent", "Crimson", "Lost", "Hyper", "Shadow", "Stellar", "Wild", "Frozen" };
+    private static final String[] NOUNS = { "Legends", "Frontier", "Protocol", "Kingdom", "Drift", "Arena", "Odyssey", "Uprising", "Tactics", "Depths" };
+    private static final String[] GENRES = { "Action", "RPG", "FPS", "Sports", "Racing", "Strategy", "Sandbox", "Battle Royale", "Puzzle", "Social" };
+    private static final String[] PLATFORMS = { "PC", "PC", "PC", "PlayStation", "Xbox", "Switch", "Mobile" };
+    private static final String[] STUDIOS = { "Northlight", "Bluehole", "Redline", "Kite Games", "Quarry", "Mistral", "Orbit Works" };
+    private static final double[] PRICES = { 0.0, 0.0, 4.99, 9.99, 14.99, 19.99, 29.99, 39.99, 49.99, 59.99, 69.99 };
+    private static final String[] CITIES = { "Mumbai", "Delhi", "Bengaluru", "Hyderabad", "Chennai", "Kolkata", "Pune", "Ahmedabad", "Jaipur", "Lucknow" };
+    private static final double[] RECHARGE_AMOUNTS = { 50.0, 100.0, 100.0, 200.0, 200.0, 500.0, 1000.0 };
+    private static final String[] PAYMENT_METHODS = { "UPI", "UPI", "Credit Card", "Debit Card", "PayPal", "Bank Transfer", "Cash" };
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Value("${seed.members:1000}")
+    private int members;
+
+    @Value("${seed.games:100}")
+    private int games;
+
+    @Value("${seed.transactions:10000}")
+    private long transactions;
+
+    @Value("${seed.recharges:2000}")
+    private long recharges;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.threads:0}")
+    private int threads; // 0 means one per core
+
+    @Value("${seed.skew:1.07}")
+    private double skew;
+
+    @Value("${seed.history-days:365}")
+    private int historyDays;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.drop-existing:false}")
+    private boolean dropExisting;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seed();
+    }
+
+    public void seed() {
+        prepareCollections();
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("Seeding {} members, {} games, {} transactions and {} recharges on {} threads",
+                members, games, transactions, recharges, workers);
+
+        long now = System.currentTimeMillis();
+        ObjectId[] memberIds = new ObjectId[members];
+        long[] joinedAt = new long[members];
+        String[] gameIds = new String[games];
+        double[] gamePrices = new double[games];
+        ZipfSampler memberActivity = new ZipfSampler(members, skew);
+        ZipfSampler gamePopularity = new ZipfSampler(games, skew);
+        int memberStride = stride(members);
+        int gameStride = stride(games);
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        List<Report> reports = new ArrayList<>();
+        long started = System.nanoTime();
+        try {
+            reports.add(insert(pool, Game.class, games, (i, random) -> {
+                Game game = game((int) i, random, now);
+                gameIds[(int) i] = game.getId();
+                gamePrices[(int) i] = game.getPrice();
+                return game;
+            }));
+            reports.add(insert(pool, Member.class, members, (i, random) -> {
+                Member member = member((int) i, random, now);
+                memberIds[(int) i] = new ObjectId(member.getId());
+                joinedAt[(int) i] = member.getJoiningDate().getTime();
+                return member;
+            }));
+            reports.add(insert(pool, Transaction.class, transactions, (i, random) -> {
+                // Ranks are scattered over the ids, so the busiest members are not simply the oldest
+                int member = scatter(memberActivity.sample(random), members, memberStride);
+                int game = scatter(gamePopularity.sample(random), games, gameStride);
+                Date date = pastDate(random, now, joinedAt[member]);
+                Transaction transaction = new Transaction(memberIds[member].toHexString(), gameIds[game], gamePrices[game], date);
+                transaction.setId(new ObjectId(date).toHexString()); // Id order follows date order, as in production
+                return transaction;
+            }));
+            reports.add(insert(pool, Recharge.class, recharges, (i, random) -> {
+                int member = scatter(memberActivity.sample(random), members, memberStride);
+                Date date = pastDate(random, now, joinedAt[member]);
+                Recharge recharge = new Recharge(memberIds[member].toHexString(), pick(random, RECHARGE_AMOUNTS),
+                        pick(random, PAYMENT_METHODS), date);
+                recharge.setId(new ObjectId(date).toHexString());
+                return recharge;
+            }));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long rebuildStart = System.nanoTime();
+        PlatformStats stats = statsService.rebuild();
+        long rebuildMillis = (System.nanoTime() - rebuildStart) / 1_000_000;
+        // Anything cached before the seed run is stale now
+        invalidationBus.publish(CacheInvalidationBus.GAMES, null);
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, null);
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long total = 0;
+        log.info("Seeding finished in {} s", String.format(Locale.ROOT, "%.1f", seconds));
+        for (Report report : reports) {
+            log.info("  {}", report);
+            total += report.documents;
+        }
+        log.info("  total: {} documents, {} docs/s; stats rebuilt in {} ms ({} members, {} transactions)",
+                total, String.format(Locale.ROOT, "%.0f", total / seconds), rebuildMillis,
+                stats.getTotalMembers(), stats.getTotalTransactions());
+    }
+
+    /**
+     * Generates {@code count} documents in batches on the pool and writes each
+     * batch with one unordered insertMany, logging progress as it goes.
+     */
+    private <T> Report insert(ExecutorService pool, Class<T> type, long count, Generator<T> generator) {
+        String collectionName = mongoTemplate.getCollectionName(type);
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        AtomicLong written = new AtomicLong();
+        long start = System.nanoTime();
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> log.info("{}: {} / {} ({} docs/s)", collectionName, written.get(), count,
+                String.format(Locale.ROOT, "%.0f", written.get() / ((System.nanoTime() - start) / 1e9))), 5, 5, TimeUnit.SECONDS);
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (long from = 0; from < count; from += batchSize) {
+                long first = from;
+                long last = Math.min(count, from + batchSize);
+                batches.add(pool.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(randomSeed ^ (collectionName.hashCode() * 0x9E3779B97F4A7C15L) ^ first);
+                    List<Document> documents = new ArrayList<>((int) (last - first));
+                    for (long i = first; i < last; i++) {
+                        Document document = new Document();
+                        mongoTemplate.getConverter().write(generator.generate(i, random), document);
+                        documents.add(document);
+                    }
+                    collection.insertMany(documents, UNORDERED);
+                    written.addAndGet(documents.size());
+                }));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding " + collectionName + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding " + collectionName + " failed", e.getCause());
+        } finally {
+            progress.shutdownNow();
+        }
+        return new Report(collectionName, written.get(), System.nanoTime() - start);
+    }
+
+    /**
+     * Refuses to mix synthetic data into an existing database unless told to
+     * start over, in which case the affected collections are dropped and their
+     * indexes recreated before the load.
+     */
+    private void prepareCollections() {
+        Class<?>[] seeded = { Member.class, Game.class, Transaction.class, Recharge.class };
+        Class<?>[] derived = { LedgerEntry.class, BalanceSnapshot.class, PlatformStats.class };
+        if (!dropExisting) {
+            for (Class<?> type : seeded) {
+                if (mongoTemplate.getCollection(mongoTemplate.getCollectionName(type)).estimatedDocumentCount() > 0) {
+                    throw new IllegalStateException("Collection " + mongoTemplate.getCollectionName(type)
+                            + " is not empty; run with --seed.drop-existing=true to replace its data");
+                }
+            }
+        }
+        IndexResolver resolver = IndexResolver.create((MongoMappingContext) mongoTemplate.getConverter().getMappingContext());
+        for (Class<?>[] group : new Class<?>[][] { seeded, derived }) {
+            for (Class<?> type : group) {
+                if (dropExisting) {
+                    log.info("Dropping collection {}", mongoTemplate.getCollectionName(type));
+                    mongoTemplate.dropCollection(type);
+                }
+                // Indexes exist before the load, so the data is indexed exactly as in production
+                IndexOperations indexes = mongoTemplate.indexOps(type);
+                resolver.resolveIndexFor(type).forEach(indexes::createIndex);
+            }
+        }
+    }
+
+    private Game game(int i, SplittableRandom random, long now) {
+        String name = pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + " " + (i + 1);
+        Game game = new Game(name, pick(random, PRICES), "Synthetic " + pick(random, GENRES).toLowerCase(Locale.ROOT)
+                + " title generated for performance testing.", pick(random, GENRES), pick(random, PLATFORMS));
+        game.setId(new ObjectId().toHexString());
+        int roll = random.nextInt(100);
+        game.setStatus(roll < 90 ? "ACTIVE" : roll < 97 ? "INACTIVE" : "MAINTENANCE");
+        game.setMinAge(new int[] { 0, 7, 12, 16, 18 }[random.nextInt(5)]);
+        String studio = pick(random, STUDIOS);
+        game.setDeveloper(studio);
+        game.setPublisher(random.nextInt(4) == 0 ? pick(random, STUDIOS) : studio);
+        LocalDateTime released = LocalDateTime.ofEpochSecond((now - random.nextLong(10L * 365 * DAY_MS)) / 1000, 0, ZoneOffset.UTC);
+        game.setReleaseDate(released);
+        game.setCreatedAt(released);
+        game.setUpdatedAt(released);
+        return game;
+    }
+
+    private Member member(int i, SplittableRandom random, long now) {
+        Date joined = new Date(now - random.nextLong(3L * 365 * DAY_MS));
+        Member member = new Member();
+        member.setId(new ObjectId(joined).toHexString());
+        member.setName("Player " + (i + 1));
+        member.setEmail("player" + (i + 1) + "@seed.gamezone.dev");
+        member.setPhoneNumber(String.format(Locale.ROOT, "6%09d", i)); // Unique for up to a billion members
+        // Most wallets hold little, a few hold a lot
+        member.setBalance(Math.round(Math.min(100_000.0, -Math.log(1 - random.nextDouble()) * 150.0) * 100) / 100.0);
+        member.setJoiningDate(joined);
+        member.setActive(random.nextInt(100) < 92);
+        member.setCity(pick(random, CITIES));
+        member.setGender(random.nextBoolean() ? "Male" : "Female");
+        LocalDateTime created = LocalDateTime.ofEpochSecond(joined.getTime() / 1000, 0, ZoneOffset.UTC);
+        member.setCreatedAt(created);
+        member.setUpdatedAt(created);
+        return member;
+    }
+
+    /** A moment in the seeded history, but never before the member joined. */
+    private Date pastDate(SplittableRandom random, long now, long joined) {
+        long from = Math.max(now - historyDays * DAY_MS, joined);
+        return new Date(now - random.nextLong(now - from + 1));
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double pick(SplittableRandom random, double[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /** A step coprime with n, so {@link #scatter} is a permutation of 0..n-1. */
+    private static int stride(int n) {
+        long stride = (0x9E3779B1L % Math.max(n, 1)) | 1;
+        while (n > 1 && gcd(stride, n) != 1) {
+            stride += 2;
+        }
+        return (int) stride;
+    }
+
+    private static int scatter(int rank, int n, int stride) {
+        return (int) ((long) rank * stride % n);
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    @FunctionalInterface
+    private interface Generator<T> {
+        T generate(long index, SplittableRandom random);
+    }
+
+    private static final class Report {
+        final String collection;
+        final long documents;
+        final long nanos;
+
+        Report(String collection, long documents, long nanos) {
+            this.collection = collection;
+            this.documents = documents;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = nanos / 1e9;
+            return String.format(Locale.ROOT, "%s: %d documents in %.1f s, %.0f docs/s",
+                    collection, documents, seconds, seconds > 0 ? documents / seconds : 0.0);
+        }
+    }
+}
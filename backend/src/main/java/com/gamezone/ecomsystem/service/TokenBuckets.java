@@ -0,0 +1,74 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for one endpoint and one kind of key (member or client IP).
+ *
+ * A bucket is a single AtomicLong holding the time at which it will be full
+ * again (the GCRA form of a token bucket), so taking a token is one CAS and
+ * a refill needs no timer. A bucket that is full carries no state, which
+ * makes evicting idle buckets safe: a new one for the same key starts out
+ * exactly as the evicted one would have been.
+ */
+final class TokenBuckets {
+    // What a new key is told to wait while the table is full; idle buckets are evicted in the background
+    static final long FULL_TABLE_WAIT = TimeUnit.SECONDS.toNanos(1);
+
+    private final long interval; // Nanos to refill one token
+    private final long burst; // How far ahead of now a bucket may run, capacity - 1 tokens
+    private final int maxBuckets;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    TokenBuckets(int capacity, double refillPerSecond, int maxBuckets) {
+        this.interval = Math.max(1, Math.round(1_000_000_000L / refillPerSecond));
+        this.burst = (capacity - 1) * interval;
+        this.maxBuckets = maxBuckets;
+    }
+
+    /** Takes a token for the key: 0 if one was available, otherwise the nanos until one will be. */
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                return FULL_TABLE_WAIT; // Fail closed, a flood of new keys must not switch the limit off
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long full = bucket.get();
+            long start = full - now < 0 ? now : full;
+            long wait = start - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(full, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Gives back a token taken for a request that was rejected on another limit. */
+    void release(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.addAndGet(-interval); // Running below now only means full
+        }
+    }
+
+    /**
+     * Drops buckets that have been full for at least idleNanos. A token
+     * taken from a bucket while it is being dropped is forgotten, which can
+     * let one extra request through for that key.
+     */
+    void evictIdle(long now, long idleNanos) {
+        buckets.values().removeIf(bucket -> now - bucket.get() >= idleNanos);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -1,21 +1,32 @@
 package com.gamezone.ecomsystem.service;
 
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 
+import com.gamezone.ecomsystem.dto.BatchResult;
+import com.gamezone.ecomsystem.dto.CursorPage;
 import com.gamezone.ecomsystem.exception.BusinessException;
 import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
 import com.gamezone.ecomsystem.model.Game;
-import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.LedgerEntry;
 import com.gamezone.ecomsystem.model.Transaction;
-import com.gamezone.ecomsystem.repository.GameRepository;
-import com.gamezone.ecomsystem.repository.MemberRepository;
 import com.gamezone.ecomsystem.repository.TransactionRepository;
+import com.mongodb.bulk.BulkWriteError;
 
+import io.micrometer.core.annotation.Timed;
+
+import java.util.ArrayList;
 import java.util.Date; // <-- Make sure this import is present
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 @Service
 public class TransactionService {
@@ -25,33 +36,115 @@ public class TransactionService {
     private TransactionRepository repo;
 
     @Autowired
-    private MemberRepository memberRepo; // To update member balance
+    private WalletService walletService; // To update member balance
+
+    @Autowired
+    private GameCatalog gameCatalog; // To get game price
 
     @Autowired
-    private GameRepository gameRepo; // To get game price
+    private StatsService statsService;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Timed(value = "gamezone.transactions.create", description = "Game purchases", histogram = true)
     public Transaction create(Transaction transaction) {
         log.info("Creating transaction for member {} and game {}", transaction.getMemberId(), transaction.getGameId());
-        transaction.setId(null);
+        transaction.setId(new ObjectId().toHexString()); // Known up front so the ledger can reference it
         
         // --- Business Logic ---
-        Member member = memberRepo.findById(transaction.getMemberId())
-                .orElseThrow(() -> new ResourceNotFoundException("Cannot create transaction: Member not found with id: " + transaction.getMemberId()));
-        
-        Game game = gameRepo.findById(transaction.getGameId())
+        Game game = gameCatalog.findById(transaction.getGameId())
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot create transaction: Game not found with id: " + transaction.getGameId()));
         
         // Use the actual game price for the transaction
         transaction.setAmount(game.getPrice());
         transaction.setDate(new Date()); // <-- THE FIX IS HERE: Set the current date
 
-        validate(transaction, member);
+        validate(transaction);
 
-        member.setBalance(member.getBalance() - transaction.getAmount());
-        memberRepo.save(member);
+        // Debit and balance check happen atomically, the ledger entry links back to this transaction
+        double newBalance = walletService.debit(transaction.getMemberId(), transaction.getAmount(),
+                LedgerEntry.REF_TRANSACTION, transaction.getId());
+        log.debug("Member {} balance after transaction: {}", transaction.getMemberId(), newBalance);
         // --- End Logic ---
 
-        return repo.save(transaction);
+        Transaction savedTransaction;
+        try {
+            savedTransaction = repo.insert(transaction);
+        } catch (RuntimeException e) {
+            // Refund the debit so a failed insert does not swallow the member's money
+            walletService.reverse(transaction.getMemberId(), LedgerEntry.DEBIT, transaction.getAmount(), transaction.getId());
+            throw e;
+        }
+        statsService.recordTransaction(savedTransaction.getAmount());
+        return savedTransaction;
+    }
+
+    /**
+     * Creates many purchases at once, for partner cafés syncing offline sales.
+     * Items are checked in parallel, balances move through
+     * {@link WalletService#applyBatch(List)} and the records go out in one
+     * unordered insert. Each item succeeds or fails on its own.
+     */
+    public BatchResult createBatch(List<Transaction> transactions) {
+        log.info("Creating batch of {} transactions", transactions.size());
+        String[] ids = new String[transactions.size()];
+        String[] errors = new String[transactions.size()];
+        Date now = new Date();
+        IntStream.range(0, transactions.size()).parallel().forEach(i -> {
+            Transaction transaction = transactions.get(i);
+            ids[i] = new ObjectId().toHexString();
+            transaction.setId(ids[i]);
+            errors[i] = prepare(transaction, now);
+        });
+
+        List<Integer> charged = new ArrayList<>();
+        List<WalletChange> changes = new ArrayList<>();
+        for (int i = 0; i < transactions.size(); i++) {
+            if (errors[i] == null) {
+                Transaction transaction = transactions.get(i);
+                charged.add(i);
+                changes.add(new WalletChange(transaction.getMemberId(), LedgerEntry.DEBIT, transaction.getAmount(),
+                        LedgerEntry.REF_TRANSACTION, transaction.getId()));
+            }
+        }
+        String[] walletErrors = walletService.applyBatch(changes);
+
+        List<Integer> accepted = new ArrayList<>();
+        List<Transaction> records = new ArrayList<>();
+        for (int k = 0; k < charged.size(); k++) {
+            int i = charged.get(k);
+            if (walletErrors[k] != null) {
+                errors[i] = walletErrors[k];
+            } else {
+                accepted.add(i);
+                records.add(transactions.get(i));
+            }
+        }
+        if (!records.isEmpty()) {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Transaction.class).insert(records).execute();
+            } catch (BulkOperationException e) {
+                log.error("Failed to save {} of {} batched transactions", e.getErrors().size(), records.size(), e);
+                for (BulkWriteError error : e.getErrors()) {
+                    Transaction transaction = records.get(error.getIndex());
+                    // Refund the debit so a failed insert does not swallow the member's money
+                    walletService.reverse(transaction.getMemberId(), LedgerEntry.DEBIT, transaction.getAmount(), transaction.getId());
+                    errors[accepted.get(error.getIndex())] = "Could not save the transaction.";
+                }
+            }
+        }
+
+        long created = 0;
+        double revenue = 0;
+        for (int i : accepted) {
+            if (errors[i] == null) {
+                created++;
+                revenue += transactions.get(i).getAmount();
+            }
+        }
+        statsService.recordTransactions(created, revenue);
+        return new BatchResult(ids, errors);
     }
 
     public List<Transaction> findAll() {
@@ -59,17 +152,50 @@ public class TransactionService {
         return repo.findAll();
     }
 
+    public CursorPage<Transaction> findPage(String after, Integer limit) {
+        log.info("Finding transactions before cursor: {}", after);
+        int size = CursorPage.resolveLimit(limit);
+        List<Transaction> transactions = repo.findByIdLessThan(CursorPage.descendingCursor(after), CursorPage.request(size, Sort.Direction.DESC));
+        return CursorPage.of(transactions, size, Transaction::getId);
+    }
+
+    public CursorPage<Transaction> findPageByMemberId(String memberId, String after, Integer limit) {
+        log.info("Finding transactions for member id: {} before cursor: {}", memberId, after);
+        int size = CursorPage.resolveLimit(limit);
+        List<Transaction> transactions = repo.findByMemberIdAndIdLessThan(memberId, CursorPage.descendingCursor(after), CursorPage.request(size, Sort.Direction.DESC));
+        return CursorPage.of(transactions, size, Transaction::getId);
+    }
+
     public List<Transaction> findByMemberId(String memberId) {
         log.info("Finding transactions for member id: {}", memberId);
         return repo.findByMemberId(memberId);
     }
 
-    private void validate(Transaction transaction, Member member) {
+    /**
+     * Prices and checks one batch item the way {@link #create} does.
+     * Returns the error, or null if the item can go ahead.
+     */
+    private String prepare(Transaction transaction, Date now) {
+        if (transaction.getMemberId() == null || transaction.getMemberId().isBlank()) {
+            return "Member id is required.";
+        }
+        Optional<Game> game = gameCatalog.findById(transaction.getGameId());
+        if (game.isEmpty()) {
+            return "Cannot create transaction: Game not found with id: " + transaction.getGameId();
+        }
+        transaction.setAmount(game.get().getPrice());
+        transaction.setDate(now);
+        try {
+            validate(transaction);
+            return null;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void validate(Transaction transaction) {
         if (transaction.getAmount() < 0) {
             throw new BusinessException("Transaction amount cannot be negative.");
         }
-        if (member.getBalance() < transaction.getAmount()) {
-            throw new BusinessException("Insufficient balance for this transaction.");
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.gamezone.ecomsystem.service;
+
+/**
+ * One balance change in a batch handed to {@link WalletService#applyBatch(java.util.List)}.
+ */
+public class WalletChange {
+    private final String memberId;
+    private final String type; // LedgerEntry.DEBIT or CREDIT
+    private final double amount;
+    private final String referenceType;
+    private final String referenceId;
+
+    public WalletChange(String memberId, String type, double amount, String referenceType, String referenceId) {
+        this.memberId = memberId;
+        this.type = type;
+        this.amount = amount;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+    }
+
+    public String getMemberId() { return memberId; }
+    public String getType() { return type; }
+    public double getAmount() { return amount; }
+    public String getReferenceType() { return referenceType; }
+    public String getReferenceId() { return referenceId; }
+}
@@ -0,0 +1,442 @@
+package com.gamezone.ecomsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
+import com.gamezone.ecomsystem.model.BalanceSnapshot;
+import com.gamezone.ecomsystem.model.LedgerEntry;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.BalanceSnapshotRepository;
+import com.gamezone.ecomsystem.repository.LedgerEntryRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.MemberRepositoryCustom.WalletUpdate;
+import com.mongodb.bulk.BulkWriteError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Owns every change to a member's balance.
+ *
+ * The ledger collection is the source of truth: each debit or credit is one
+ * appended entry with a per-member sequence, and every {@code snapshotInterval}
+ * entries a balance snapshot is written. {@code Member.balance} is kept as a
+ * projection so the overdraft check and the sequence allocation stay a single
+ * atomic findAndModify; {@link #rebuild(String)} restores it from the ledger.
+ */
+@Service
+public class WalletService {
+    private static final Logger log = LoggerFactory.getLogger(WalletService.class);
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private LedgerEntryRepository ledgerRepo;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepo;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${wallet.snapshot-interval:100}")
+    private long snapshotInterval;
+
+    public double debit(String memberId, double amount, String referenceType, String referenceId) {
+        Member wallet = memberRepo.debitBalance(memberId, amount)
+                .orElseThrow(() -> {
+                    if (!memberRepo.existsById(memberId)) {
+                        return new ResourceNotFoundException("Member not found with id: " + memberId);
+                    }
+                    return new BusinessException("Insufficient balance for this transaction.");
+                });
+        append(memberId, wallet, LedgerEntry.DEBIT, amount, referenceType, referenceId);
+        return wallet.getBalance();
+    }
+
+    public double credit(String memberId, double amount, String referenceType, String referenceId) {
+        Member wallet = memberRepo.creditBalance(memberId, amount)
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + memberId));
+        append(memberId, wallet, LedgerEntry.CREDIT, amount, referenceType, referenceId);
+        return wallet.getBalance();
+    }
+
+    /**
+     * Applies many balance changes with a fixed number of round trips.
+     *
+     * Changes are grouped per member and run in order against the balance read
+     * up front, so a debit fails exactly when it would have failed on its own.
+     * Each member's net change then goes out in one bulk update, and the
+     * ledger entries and snapshots in one unordered insert each. A member whose
+     * wallet moved between the read and the update is retried change by
+     * change through {@link #debit} and {@link #credit}.
+     *
+     * The bulk result only counts the members it updated. When it falls short,
+     * the wallets are read again: a member that is gone, or whose sequence has
+     * not reached what this update alone would take it to, was left untouched.
+     * If that still does not add up, the remaining members' entries are
+     * written anyway and the ledger's unique (memberId, sequence) key decides:
+     * an entry already there means another writer holds the sequence, so the
+     * update cannot have been ours. Entries of ours that land on a sequence
+     * another writer allocated stand, and that writer takes them into the
+     * projection when its own insert collides (see {@link #takeBack}).
+     *
+     * Returns an error message per change, null where it was applied.
+     */
+    public String[] applyBatch(List<WalletChange> changes) {
+        String[] errors = new String[changes.size()];
+        Map<String, List<Integer>> byMember = new LinkedHashMap<>();
+        for (int i = 0; i < changes.size(); i++) {
+            byMember.computeIfAbsent(changes.get(i).getMemberId(), k -> new ArrayList<>()).add(i);
+        }
+        Map<String, Member> wallets = new HashMap<>();
+        for (Member wallet : memberRepo.findWallets(byMember.keySet())) {
+            wallets.put(wallet.getId(), wallet);
+        }
+
+        List<MemberBatch> batches = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> group : byMember.entrySet()) {
+            Member wallet = wallets.get(group.getKey());
+            if (wallet == null) {
+                group.getValue().forEach(i -> errors[i] = "Member not found with id: " + group.getKey());
+                continue;
+            }
+            MemberBatch batch = plan(wallet, group.getValue(), changes, errors);
+            if (!batch.applied.isEmpty()) {
+                batches.add(batch);
+            }
+        }
+
+        List<WalletUpdate> updates = new ArrayList<>();
+        batches.forEach(batch -> updates.add(new WalletUpdate(batch.wallet, batch.balance - batch.wallet.getBalance(),
+                batch.entries.size(), batch.wallet.getBalance() - batch.lowest)));
+        int updated = memberRepo.applyWalletUpdates(updates);
+
+        Set<String> moved = new HashSet<>();
+        Set<String> unsure = new HashSet<>();
+        if (updated < updates.size()) {
+            Map<String, Member> now = new HashMap<>();
+            memberRepo.findWallets(batches.stream().map(batch -> batch.wallet.getId()).toList()).forEach(wallet -> now.put(wallet.getId(), wallet));
+            for (MemberBatch batch : batches) {
+                Member wallet = now.get(batch.wallet.getId());
+                // Sequences never go back, and this update alone would have taken it to the last planned one
+                if (wallet == null || wallet.getLedgerSequence() < batch.lastSequence()) {
+                    moved.add(batch.wallet.getId());
+                } else {
+                    unsure.add(batch.wallet.getId());
+                }
+            }
+            if (moved.size() == updates.size() - updated) {
+                unsure.clear(); // Every update that missed is accounted for
+            }
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (MemberBatch batch : batches) {
+            if (!moved.contains(batch.wallet.getId())) {
+                invalidationBus.publish(CacheInvalidationBus.MEMBERS, batch.wallet.getId()); // The projection has already moved
+                batch.offset = entries.size();
+                entries.addAll(batch.entries);
+            }
+        }
+        Set<Integer> unrecorded = insertLedgerEntries(entries);
+
+        List<BalanceSnapshot> snapshots = new ArrayList<>();
+        for (MemberBatch batch : batches) {
+            String memberId = batch.wallet.getId();
+            if (moved.contains(memberId)) {
+                // The wallet changed under us: redo this member one change at a time, which is always safe
+                batch.indexes.forEach(i -> errors[i] = applyOne(changes.get(i)));
+                continue;
+            }
+            Map<Integer, LedgerEntry> taken = new HashMap<>();
+            for (int k = 0; k < batch.entries.size(); k++) {
+                if (unrecorded.contains(batch.offset + k)) {
+                    int position = k;
+                    ledgerRepo.findByMemberIdAndSequence(memberId, batch.entries.get(k).getSequence())
+                            .ifPresent(entry -> taken.put(position, entry));
+                }
+            }
+            if (unsure.contains(memberId) && !taken.isEmpty()) {
+                // Another writer holds these sequences, so our update never landed: the entries that
+                // did are taken in by their holders, the rest is redone one change at a time
+                for (int k = 0; k < batch.entries.size(); k++) {
+                    int i = batch.applied.get(k);
+                    if (taken.containsKey(k)) {
+                        errors[i] = applyOne(changes.get(i));
+                    } else if (unrecorded.contains(batch.offset + k)) {
+                        errors[i] = "Could not record the balance change.";
+                    }
+                }
+                continue;
+            }
+            double lost = 0;
+            long firstLost = Long.MAX_VALUE;
+            for (int k = 0; k < batch.entries.size(); k++) {
+                if (unrecorded.contains(batch.offset + k)) {
+                    LedgerEntry entry = batch.entries.get(k);
+                    lost += entry.signedAmount() - (taken.containsKey(k) ? taken.get(k).signedAmount() : 0);
+                    firstLost = Math.min(firstLost, entry.getSequence());
+                    errors[batch.applied.get(k)] = "Could not record the balance change.";
+                }
+            }
+            if (firstLost != Long.MAX_VALUE) {
+                // Without their ledger entries those changes must not stand, as in append
+                takeBack(memberId, -lost, firstLost);
+                long lostFrom = firstLost;
+                batch.snapshots.removeIf(snapshot -> snapshot.getSequence() >= lostFrom);
+            }
+            snapshots.addAll(batch.snapshots);
+            statsService.recordBalanceChange(batch.wallet.getBalance(), batch.balance - lost);
+        }
+        insertSnapshots(snapshots);
+        return errors;
+    }
+
+    /**
+     * Runs one member's changes in order against the balance read, allocating
+     * ledger sequences and snapshots exactly as one-at-a-time calls would.
+     */
+    private MemberBatch plan(Member wallet, List<Integer> indexes, List<WalletChange> changes, String[] errors) {
+        MemberBatch batch = new MemberBatch(wallet, indexes);
+        long sequence = wallet.getLedgerSequence();
+        for (int i : indexes) {
+            WalletChange change = changes.get(i);
+            boolean debit = LedgerEntry.DEBIT.equals(change.getType());
+            if (debit && batch.balance < change.getAmount()) {
+                errors[i] = "Insufficient balance for this transaction.";
+                continue;
+            }
+            double before = batch.balance;
+            batch.balance += debit ? -change.getAmount() : change.getAmount();
+            batch.lowest = Math.min(batch.lowest, batch.balance);
+            sequence++;
+            if (sequence == 1) {
+                batch.snapshots.add(new BalanceSnapshot(wallet.getId(), 0, before));
+            }
+            batch.entries.add(new LedgerEntry(wallet.getId(), sequence, change.getType(), change.getAmount(),
+                    change.getReferenceType(), change.getReferenceId()));
+            batch.applied.add(i);
+            if (sequence % snapshotInterval == 0) {
+                batch.snapshots.add(new BalanceSnapshot(wallet.getId(), sequence, batch.balance));
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Undoes an earlier debit or credit whose business record could not be
+     * written. The original entry stays in the ledger, a new one cancels it.
+     */
+    public void reverse(String memberId, String type, double amount, String referenceId) {
+        log.warn("Reversing {} of {} for member {} ({})", type, amount, memberId, referenceId);
+        if (LedgerEntry.DEBIT.equals(type)) {
+            credit(memberId, amount, LedgerEntry.REF_REVERSAL, referenceId);
+        } else {
+            // A reversal may overdraw if the credit was already spent, so it bypasses the guard
+            Member wallet = memberRepo.creditBalance(memberId, -amount)
+                    .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + memberId));
+            append(memberId, wallet, LedgerEntry.DEBIT, amount, LedgerEntry.REF_REVERSAL, referenceId);
+        }
+    }
+
+    /**
+     * Balance according to the ledger: the latest snapshot plus the entries
+     * written after it.
+     */
+    public double getBalance(String memberId) {
+        BalanceSnapshot snapshot = snapshotRepo.findFirstByMemberIdOrderBySequenceDesc(memberId).orElse(null);
+        if (snapshot == null) {
+            // No ledger activity yet, the opening balance is still on the member
+            return memberRepo.findById(memberId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + memberId))
+                    .getBalance();
+        }
+        return sum(snapshot.getBalance(),
+                ledgerRepo.findByMemberIdAndSequenceGreaterThanOrderBySequenceAsc(memberId, snapshot.getSequence()));
+    }
+
+    /**
+     * Balance replayed from the opening snapshot over the whole ledger, for audits.
+     */
+    public double replay(String memberId) {
+        double opening = snapshotRepo.findByMemberIdAndSequence(memberId, 0)
+                .map(BalanceSnapshot::getBalance)
+                .orElseGet(() -> getBalance(memberId));
+        return sum(opening, ledgerRepo.findByMemberIdOrderBySequenceAsc(memberId));
+    }
+
+    /** One page of a member's ledger, oldest first, keyed on the sequence. */
+    public CursorPage<LedgerEntry> getLedgerPage(String memberId, String after, Integer limit) {
+        log.info("Finding ledger for member id: {} after cursor: {}", memberId, after);
+        int size = CursorPage.resolveLimit(limit);
+        List<LedgerEntry> entries = ledgerRepo.findByMemberIdAndSequenceGreaterThan(memberId, CursorPage.sequenceCursor(after),
+                CursorPage.request(size, Sort.Direction.ASC, "sequence"));
+        return CursorPage.of(entries, size, entry -> Long.toString(entry.getSequence()));
+    }
+
+    /**
+     * Rewrites {@code Member.balance} from the ledger to repair any drift.
+     */
+    public double rebuild(String memberId) {
+        log.info("Rebuilding balance for member id: {}", memberId);
+        Member member = memberRepo.findById(memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + memberId));
+        List<LedgerEntry> entries = ledgerRepo.findByMemberIdOrderBySequenceAsc(memberId);
+        if (entries.isEmpty()) {
+            return member.getBalance();
+        }
+        double balance = replay(memberId);
+        long lastSequence = Math.max(member.getLedgerSequence(), entries.get(entries.size() - 1).getSequence());
+        memberRepo.resetBalance(memberId, balance, lastSequence);
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, memberId);
+        return balance;
+    }
+
+    private void append(String memberId, Member wallet, String type, double amount, String referenceType, String referenceId) {
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, memberId); // The projection has already moved
+        long sequence = wallet.getLedgerSequence();
+        double before = wallet.getBalance() - (LedgerEntry.DEBIT.equals(type) ? -amount : amount);
+        if (sequence == 1) {
+            // First ledger entry for this member: record what they started with
+            saveSnapshot(new BalanceSnapshot(memberId, 0, before));
+        }
+        try {
+            ledgerRepo.insert(new LedgerEntry(memberId, sequence, type, amount, referenceType, referenceId));
+        } catch (RuntimeException e) {
+            // Without its ledger entry the projection change must not stand
+            log.error("Failed to append ledger entry {} for member {}", sequence, memberId, e);
+            double delta = LedgerEntry.DEBIT.equals(type) ? amount : -amount;
+            // A batch unsure of its own update may have recorded this sequence first: its entry stands instead
+            delta += ledgerRepo.findByMemberIdAndSequence(memberId, sequence).map(LedgerEntry::signedAmount).orElse(0.0);
+            takeBack(memberId, delta, sequence);
+            throw e;
+        }
+        statsService.recordBalanceChange(before, wallet.getBalance());
+        if (sequence % snapshotInterval == 0) {
+            saveSnapshot(new BalanceSnapshot(memberId, sequence, wallet.getBalance()));
+        }
+    }
+
+    /**
+     * Takes back balance changes whose ledger entries, from {@code lostFrom}
+     * on, could not be written. Only the balance moves: the lost sequences
+     * stay unused rather than a new one being allocated for the correction.
+     * Snapshots other writers took since then counted the lost changes, so
+     * they are dropped and the balance is read from an earlier one. Where a
+     * batch recorded a lost sequence first, {@code delta} also carries that
+     * entry, so the projection ends up matching the ledger.
+     */
+    private void takeBack(String memberId, double delta, long lostFrom) {
+        memberRepo.adjustBalance(memberId, delta);
+        snapshotRepo.deleteByMemberIdAndSequenceGreaterThanEqual(memberId, lostFrom);
+        invalidationBus.publish(CacheInvalidationBus.MEMBERS, memberId);
+    }
+
+    private String applyOne(WalletChange change) {
+        try {
+            if (LedgerEntry.DEBIT.equals(change.getType())) {
+                debit(change.getMemberId(), change.getAmount(), change.getReferenceType(), change.getReferenceId());
+            } else {
+                credit(change.getMemberId(), change.getAmount(), change.getReferenceType(), change.getReferenceId());
+            }
+            return null;
+        } catch (BusinessException | ResourceNotFoundException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Inserts the entries unordered and returns the positions of those that
+     * could not be written.
+     */
+    private Set<Integer> insertLedgerEntries(List<LedgerEntry> entries) {
+        Set<Integer> failed = new HashSet<>();
+        if (entries.isEmpty()) {
+            return failed;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LedgerEntry.class).insert(entries).execute();
+        } catch (BulkOperationException e) {
+            log.error("Failed to append {} of {} batched ledger entries", e.getErrors().size(), entries.size(), e);
+            for (BulkWriteError error : e.getErrors()) {
+                failed.add(error.getIndex());
+            }
+        }
+        return failed;
+    }
+
+    private void insertSnapshots(List<BalanceSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BalanceSnapshot.class).insert(snapshots).execute();
+        } catch (BulkOperationException e) {
+            // Duplicates are snapshots another writer already took, as in saveSnapshot
+            log.debug("{} batched snapshots already existed", e.getErrors().size());
+        }
+    }
+
+    private void saveSnapshot(BalanceSnapshot snapshot) {
+        try {
+            snapshotRepo.insert(snapshot);
+        } catch (DuplicateKeyException e) {
+            log.debug("Snapshot {} for member {} already exists", snapshot.getSequence(), snapshot.getMemberId());
+        }
+    }
+
+    private double sum(double start, List<LedgerEntry> entries) {
+        double balance = start;
+        for (LedgerEntry entry : entries) {
+            balance += entry.signedAmount();
+        }
+        return balance;
+    }
+
+    /** One member's share of a batch: the changes that fit its balance, in order. */
+    private static final class MemberBatch {
+        final Member wallet;
+        final List<Integer> indexes;
+        final List<Integer> applied = new ArrayList<>();
+        final List<LedgerEntry> entries = new ArrayList<>();
+        final List<BalanceSnapshot> snapshots = new ArrayList<>();
+        double balance;
+        double lowest; // Lowest running balance, which the update must not take below zero
+        int offset; // Position of the first entry in the combined insert
+
+        MemberBatch(Member wallet, List<Integer> indexes) {
+            this.wallet = wallet;
+            this.indexes = indexes;
+            this.balance = wallet.getBalance();
+            this.lowest = balance;
+        }
+
+        long lastSequence() {
+            return wallet.getLedgerSequence() + entries.size();
+        }
+    }
+}
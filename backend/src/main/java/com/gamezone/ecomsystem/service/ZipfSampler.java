@@ -0,0 +1,40 @@
+package com.gamezone.ecomsystem.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks 0..n-1 with Zipf-distributed probability (rank k has weight
+ * 1/(k+1)^exponent), so a handful of members or games account for most of
+ * the activity, as in production. Sampling is a binary search over the
+ * precomputed cumulative weights. The sampler is immutable and can be
+ * shared between threads; each caller brings its own random source.
+ */
+class ZipfSampler {
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("A Zipf sampler needs at least one rank");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= total;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,134 @@
+package com.gamezone.ecomsystem.reactive;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.PlatformStats;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveGameRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveMemberRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveRechargeRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveTransactionRepository;
+import com.gamezone.ecomsystem.service.GameCatalog;
+import com.gamezone.ecomsystem.service.StatsService;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking versions of the read-heavy endpoints: the game catalog, both
+ * dashboards and the member histories. Every Mongo read goes through the
+ * reactive driver, so a request holds no thread while it waits on the
+ * database. Responses match their servlet counterparts.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveReadHandler {
+
+    @Autowired
+    private ReactiveGameRepository gameRepo;
+
+    @Autowired
+    private ReactiveMemberRepository memberRepo;
+
+    @Autowired
+    private ReactiveTransactionRepository transactionRepo;
+
+    @Autowired
+    private ReactiveRechargeRepository rechargeRepo;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private GameCatalog gameCatalog;
+
+    @Autowired
+    private StatsService statsService;
+
+    public Mono<ServerResponse> games(ServerRequest request) {
+        int size = CursorPage.resolveLimit(limit(request));
+        String after = CursorPage.ascendingCursor(request.queryParam("after").orElse(null));
+        return gameRepo.findByIdGreaterThan(after, CursorPage.request(size, Sort.Direction.ASC))
+                .collectList()
+                .flatMap(games -> page(CursorPage.of(games, size, Game::getId)));
+    }
+
+    public Mono<ServerResponse> game(ServerRequest request) {
+        String id = request.pathVariable("id");
+        return gameRepo.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Game not found with id: " + id)))
+                .flatMap(game -> ServerResponse.ok().bodyValue(game));
+    }
+
+    public Mono<ServerResponse> transactions(ServerRequest request) {
+        String memberId = request.pathVariable("memberId");
+        int size = CursorPage.resolveLimit(limit(request));
+        String after = CursorPage.descendingCursor(request.queryParam("after").orElse(null));
+        return transactionRepo.findByMemberIdAndIdLessThan(memberId, after, CursorPage.request(size, Sort.Direction.DESC))
+                .collectList()
+                .flatMap(transactions -> page(CursorPage.of(transactions, size, Transaction::getId)));
+    }
+
+    public Mono<ServerResponse> recharges(ServerRequest request) {
+        String memberId = request.pathVariable("memberId");
+        int size = CursorPage.resolveLimit(limit(request));
+        String after = CursorPage.descendingCursor(request.queryParam("after").orElse(null));
+        return rechargeRepo.findByMemberIdAndIdLessThan(memberId, after, CursorPage.request(size, Sort.Direction.DESC))
+                .collectList()
+                .flatMap(recharges -> page(CursorPage.of(recharges, size, Recharge::getId)));
+    }
+
+    public Mono<ServerResponse> adminStats(ServerRequest request) {
+        // The stats document is only missing before the first rebuild, which is blocking work
+        Mono<PlatformStats> counters = mongoTemplate.findById(PlatformStats.ID, PlatformStats.class)
+                .switchIfEmpty(Mono.fromCallable(statsService::rebuild).subscribeOn(Schedulers.boundedElastic()));
+        return Mono.zip(counters,
+                        mongoTemplate.find(statsService.recentQuery(), Transaction.class).collectList(),
+                        mongoTemplate.find(statsService.recentQuery(), Recharge.class).collectList())
+                .flatMap(stats -> ServerResponse.ok().bodyValue(statsService.toAdminStats(stats.getT1(), stats.getT2(), stats.getT3())));
+    }
+
+    public Mono<ServerResponse> userDashboard(ServerRequest request) {
+        String memberId = request.pathVariable("memberId");
+        // The three reads run concurrently; the catalog is in memory (see ReactiveReadServer#start)
+        return Mono.zip(memberRepo.findById(memberId),
+                        transactionRepo.findByMemberId(memberId).collectList(),
+                        rechargeRepo.findByMemberId(memberId).collectList())
+                .flatMap(reads -> ServerResponse.ok().bodyValue(statsService.toUserDashboard(reads.getT1(), reads.getT2(), reads.getT3(), gameCatalog.findAll())))
+                .switchIfEmpty(Mono.defer(() -> {
+                    Map<String, Object> error = new HashMap<>();
+                    error.put("error", "Member not found");
+                    return ServerResponse.badRequest().bodyValue(error);
+                }));
+    }
+
+    private <T> Mono<ServerResponse> page(CursorPage<T> page) {
+        return ServerResponse.ok().headers(headers -> headers.addAll(page.headers())).bodyValue(page.getItems());
+    }
+
+    private Integer limit(ServerRequest request) {
+        String limit = request.queryParam("limit").orElse(null);
+        if (limit == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(limit);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid limit: " + limit);
+        }
+    }
+}
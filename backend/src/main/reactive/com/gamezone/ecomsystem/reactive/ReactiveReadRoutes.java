@@ -0,0 +1,47 @@
+package com.gamezone.ecomsystem.reactive;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.exception.GlobalExceptionHandler.ErrorResponse;
+import com.gamezone.ecomsystem.exception.ResourceNotFoundException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Routes of the reactive read server. Paths are the same as on the servlet
+ * stack, so a client only switches the port. Errors get the same bodies as
+ * {@link com.gamezone.ecomsystem.exception.GlobalExceptionHandler} gives them.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveReadRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRouter(ReactiveReadHandler handler) {
+        return RouterFunctions.route()
+                .GET("/games", handler::games)
+                .GET("/games/{id}", handler::game)
+                .GET("/transactions/member/{memberId}", handler::transactions)
+                .GET("/recharges/member/{memberId}", handler::recharges)
+                .GET("/dashboard/admin/stats", handler::adminStats)
+                .GET("/dashboard/user/{memberId}", handler::userDashboard)
+                // Deferred so validation errors thrown before the first operator are mapped too
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .onErrorResume(BusinessException.class, e -> error(HttpStatus.BAD_REQUEST, e.getMessage()))
+                        .onErrorResume(ResourceNotFoundException.class, e -> error(HttpStatus.NOT_FOUND, e.getMessage())))
+                .build();
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.gamezone.ecomsystem.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.service.GameCatalog;
+
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Runs the reactive read endpoints on their own Netty server
+ * (reactive.server.port, 8081 by default) beside the servlet stack, which
+ * keeps serving every endpoint on server.port. Enabled by the "reactive" profile.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveReadServer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    @Autowired
+    private RouterFunction<ServerResponse> reactiveReadRouter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GameCatalog gameCatalog;
+
+    @Value("${reactive.server.port:8081}")
+    private int port;
+
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        // Load the catalog now, so event-loop threads only ever read it from memory
+        gameCatalog.findAll();
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(new CorsWebFilter(corsSource()))
+                .build();
+        HttpHandler handler = RouterFunctions.toHttpHandler(reactiveReadRouter, strategies);
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(handler))
+                .bindNow();
+        log.info("Reactive read endpoints listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** The bound port, which differs from the configured one when that is 0. */
+    public int getPort() {
+        return server.port();
+    }
+
+    private UrlBasedCorsConfigurationSource corsSource() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        cors.addAllowedMethod("GET");
+        cors.addAllowedMethod("OPTIONS");
+        cors.addAllowedHeader("*");
+        cors.addExposedHeader(CursorPage.NEXT_CURSOR_HEADER);
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", cors);
+        return source;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gamezone.ecomsystem.repository.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import com.gamezone.ecomsystem.model.Game;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveGameRepository extends ReactiveMongoRepository<Game, String> {
+    Flux<Game> findByStatus(String status);
+    Flux<Game> findByIdGreaterThan(String id, Pageable pageable);
+}
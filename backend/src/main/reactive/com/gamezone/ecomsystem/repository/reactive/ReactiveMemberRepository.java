@@ -0,0 +1,12 @@
+package com.gamezone.ecomsystem.repository.reactive;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import com.gamezone.ecomsystem.model.Member;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveMemberRepository extends ReactiveMongoRepository<Member, String> {
+    Mono<Member> findByPhoneNumber(String phoneNumber);
+    Mono<Member> findByEmail(String email);
+}
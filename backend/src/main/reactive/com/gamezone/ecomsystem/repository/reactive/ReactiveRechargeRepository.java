@@ -0,0 +1,13 @@
+package com.gamezone.ecomsystem.repository.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import com.gamezone.ecomsystem.model.Recharge;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveRechargeRepository extends ReactiveMongoRepository<Recharge, String> {
+    Flux<Recharge> findByMemberId(String memberId);
+    Flux<Recharge> findByMemberIdAndIdLessThan(String memberId, String id, Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.gamezone.ecomsystem.repository.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import com.gamezone.ecomsystem.model.Transaction;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveTransactionRepository extends ReactiveMongoRepository<Transaction, String> {
+    Flux<Transaction> findByMemberId(String memberId);
+    Flux<Transaction> findByMemberIdAndIdLessThan(String memberId, String id, Pageable pageable);
+}
@@ -0,0 +1,78 @@
+package com.gamezone.ecomsystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.service.RechargeService;
+import com.gamezone.ecomsystem.service.TransactionService;
+
+/**
+ * One purchase and one dashboard read, then the Prometheus scrape must
+ * carry the service timer histograms and the per-collection Mongo command
+ * and pool metrics.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@Testcontainers(disabledWithoutDocker = true)
+class MetricsExportTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private RechargeService rechargeService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Test
+    void prometheusScrapeCarriesServiceAndMongoMetrics() {
+        Member member = new Member();
+        member.setName("Metrics member");
+        member.setEmail("metrics@example.com");
+        member.setPhoneNumber("8000000001");
+        member = memberRepo.save(member);
+        Game game = gameRepo.save(new Game("Metrics Game", 5.0, "Game used by the metrics test.", "Arcade", "PC"));
+
+        rechargeService.create(new Recharge(member.getId(), 10.0, "Cash", null));
+        transactionService.create(new Transaction(member.getId(), game.getId(), 0, null));
+        assertEquals(200, rest.getForEntity("/dashboard/admin/stats", String.class).getStatusCode().value());
+
+        ResponseEntity<String> scrape = rest.getForEntity("/actuator/prometheus", String.class);
+        assertEquals(200, scrape.getStatusCode().value());
+        String body = scrape.getBody();
+        assertTrue(body.contains("gamezone_transactions_create_seconds_bucket"), "purchase histogram");
+        assertTrue(body.contains("gamezone_recharges_create_seconds_bucket"), "recharge histogram");
+        assertTrue(body.contains("gamezone_dashboard_admin_seconds_bucket"), "admin dashboard histogram");
+        assertTrue(body.matches("(?s).*mongodb_driver_commands_seconds_bucket\\{[^}]*collection=\"transactions\"[^}]*command=\"insert\".*"),
+                "Mongo command histogram per collection and command");
+        assertTrue(body.contains("mongodb_driver_pool_size"), "connection pool gauges");
+    }
+}
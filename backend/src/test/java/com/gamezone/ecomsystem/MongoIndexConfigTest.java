@@ -0,0 +1,88 @@
+package com.gamezone.ecomsystem;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Member;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+
+/**
+ * A database from before the unique indexes: plain phoneNumber and email
+ * indexes that the new unique ones would clash with.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoIndexConfigTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient client;
+    private MongoDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(mongo.getConnectionString());
+        database = client.getDatabase("legacy");
+        database.drop();
+        database.getCollection("members").createIndex(Indexes.ascending("phoneNumber"), new IndexOptions().name("phoneNumber"));
+        database.getCollection("members").createIndex(Indexes.ascending("email"), new IndexOptions().name("email"));
+        database.getCollection("admin").createIndex(Indexes.ascending("email"), new IndexOptions().name("email"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void oldIndexesAreDroppedSoTheUniqueOnesCanBeBuilt() {
+        database.getCollection("members").insertOne(new Document("phoneNumber", "9000000001").append("email", "a@example.com"));
+
+        MongoIndexConfig.migrateUniqueIndexes(database);
+
+        List<String> names = indexNames("members");
+        assertFalse(names.contains("phoneNumber"));
+        assertFalse(names.contains("email"));
+        assertFalse(indexNames("admin").contains("email"));
+        database.getCollection("members").createIndex(Indexes.ascending("phoneNumber"),
+                new IndexOptions().name(Member.PHONE_NUMBER_INDEX).unique(true).sparse(true));
+
+        // Once the unique index exists the migration leaves everything alone
+        MongoIndexConfig.migrateUniqueIndexes(database);
+        assertTrue(indexNames("members").contains(Member.PHONE_NUMBER_INDEX));
+    }
+
+    @Test
+    void existingDuplicatesStopStartupWithAClearMessage() {
+        database.getCollection("members").insertMany(List.of(
+                new Document("phoneNumber", "9000000001").append("email", "a@example.com"),
+                new Document("phoneNumber", "9000000002").append("email", "a@example.com")));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> MongoIndexConfig.migrateUniqueIndexes(database));
+
+        assertTrue(e.getMessage().contains(Member.EMAIL_INDEX) && e.getMessage().contains("1 email values"), e.getMessage());
+        assertTrue(indexNames("members").contains("email"), "Nothing is dropped before the data is fixed");
+    }
+
+    private List<String> indexNames(String collection) {
+        List<String> names = new ArrayList<>();
+        database.getCollection(collection).listIndexes().forEach(index -> names.add(index.getString("name")));
+        return names;
+    }
+}
@@ -0,0 +1,56 @@
+package com.gamezone.ecomsystem;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.gamezone.ecomsystem.service.RoundTripTracker;
+import com.gamezone.ecomsystem.service.RoundTrips;
+
+/**
+ * Collects the Mongo round trips of the requests an integration test makes,
+ * so it can hold each endpoint to a budget:
+ *
+ * <pre>
+ * try (RoundTripBudget budget = RoundTripBudget.watch(tracker)) {
+ *     rest.getForEntity("/dashboard/user/" + id, String.class);
+ *     budget.assertAtMost("GET /dashboard/user/{memberId}", 3);
+ * }
+ * </pre>
+ *
+ * Budgets also fail on any repeated query shape (a likely N+1).
+ */
+public final class RoundTripBudget implements AutoCloseable {
+    private final RoundTripTracker tracker;
+    private final List<RoundTrips> finished = new CopyOnWriteArrayList<>();
+    private final Consumer<RoundTrips> listener = finished::add;
+
+    private RoundTripBudget(RoundTripTracker tracker) {
+        this.tracker = tracker;
+        tracker.addListener(listener);
+    }
+
+    public static RoundTripBudget watch(RoundTripTracker tracker) {
+        return new RoundTripBudget(tracker);
+    }
+
+    /** Every finished request for the endpoint stayed within the budget, without N+1 repeats. */
+    public void assertAtMost(String endpoint, int commands) {
+        List<RoundTrips> requests = finished.stream().filter(trips -> trips.getName().equals(endpoint)).toList();
+        if (requests.isEmpty()) {
+            fail("No request to " + endpoint + " was seen, got " + finished);
+        }
+        for (RoundTrips trips : requests) {
+            assertTrue(trips.getCommands() <= commands, trips + ", budget " + commands + ": " + trips.getShapes());
+            assertTrue(trips.getRepeated().isEmpty(), "Possible N+1 in " + trips.getName() + ": " + trips.getRepeated());
+        }
+    }
+
+    @Override
+    public void close() {
+        tracker.removeListener(listener);
+    }
+}
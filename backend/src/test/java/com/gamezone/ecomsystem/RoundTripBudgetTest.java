@@ -0,0 +1,89 @@
+package com.gamezone.ecomsystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.service.RechargeService;
+import com.gamezone.ecomsystem.service.RoundTripTracker;
+import com.gamezone.ecomsystem.service.TransactionService;
+
+/**
+ * Round-trip budgets for the read endpoints, measured against a member
+ * with a purchase history long enough that a per-item lookup would show.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+class RoundTripBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private RoundTripTracker tracker;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Autowired
+    private RechargeService rechargeService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Test
+    void readEndpointsStayWithinTheirBudgets() {
+        Member member = new Member();
+        member.setName("Budget member");
+        member.setEmail("budget@example.com");
+        member.setPhoneNumber("8100000001");
+        member = memberRepo.save(member);
+        rechargeService.create(new Recharge(member.getId(), 500.0, "Cash", null));
+        for (int i = 0; i < 20; i++) {
+            Game game = gameRepo.save(new Game("Budget Game " + i, 5.0, "Game used by the budget test.", "Arcade", "PC"));
+            transactionService.create(new Transaction(member.getId(), game.getId(), 0, null));
+        }
+
+        try (RoundTripBudget budget = RoundTripBudget.watch(tracker)) {
+            ResponseEntity<String> dashboard = rest.getForEntity("/dashboard/user/" + member.getId(), String.class);
+            assertEquals(200, dashboard.getStatusCode().value());
+            assertNotNull(dashboard.getHeaders().getFirst(RoundTripFilter.HEADER));
+
+            rest.getForEntity("/dashboard/admin/stats", String.class);
+            rest.postForEntity("/members/search", Map.of("phone", "8100000001"), String.class);
+            rest.getForEntity("/transactions/member/" + member.getId(), String.class);
+
+            // Member (unless cached), transactions and recharges; the games come from the in-memory catalog
+            budget.assertAtMost("GET /dashboard/user/{memberId}", 3);
+            // Stats document and the two recent-activity lists
+            budget.assertAtMost("GET /dashboard/admin/stats", 3);
+            // Member, recharges and transactions; game names resolve from the catalog
+            budget.assertAtMost("POST /members/search", 3);
+            budget.assertAtMost("GET /transactions/member/{memberId}", 1);
+        }
+    }
+}
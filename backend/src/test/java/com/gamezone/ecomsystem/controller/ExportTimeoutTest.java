@@ -0,0 +1,74 @@
+package com.gamezone.ecomsystem.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.gamezone.ecomsystem.ExportConfig;
+import com.gamezone.ecomsystem.service.BatchReader;
+import com.gamezone.ecomsystem.service.ExportService;
+import com.gamezone.ecomsystem.service.RateLimiter;
+import com.gamezone.ecomsystem.service.RoundTripTracker;
+import com.gamezone.ecomsystem.service.TransactionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@WebMvcTest(controllers = TransactionController.class, properties = { "export.timeout=3h", "spring.mvc.async.request-timeout=5s" })
+@Import({ ExportConfig.class, RoundTripTracker.class, SimpleMeterRegistry.class })
+class ExportTimeoutTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private TransactionService service;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private BatchReader batchReader;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+
+    @Test
+    void slowExportRunsUnderTheExportTimeout() throws Exception {
+        // Slower than the 5 s default async timeout configured above, one line at a time
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            for (int i = 0; i < 60; i++) {
+                out.write(("{\"n\":" + i + "}\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(100);
+            }
+            return null;
+        }).when(exportService).exportTransactions(isNull(), isNull(), any(OutputStream.class));
+
+        MvcResult started = mvc.perform(get("/transactions/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(TimeUnit.HOURS.toMillis(3), started.getRequest().getAsyncContext().getTimeout());
+
+        MvcResult done = mvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+        assertEquals(60, done.getResponse().getContentAsString().split("\n").length);
+    }
+}
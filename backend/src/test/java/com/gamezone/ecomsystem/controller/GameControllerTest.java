@@ -0,0 +1,175 @@
+package com.gamezone.ecomsystem.controller;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamezone.ecomsystem.FieldSelectionConfig;
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.service.CacheInvalidationBus;
+import com.gamezone.ecomsystem.service.CatalogResponseCache;
+import com.gamezone.ecomsystem.service.GameCatalog;
+import com.gamezone.ecomsystem.service.GameService;
+import com.gamezone.ecomsystem.service.ResourceVersions;
+
+class GameControllerTest {
+
+    private ObjectMapper objectMapper;
+    private final ResourceVersions versions = new ResourceVersions();
+    private GameRepository repo;
+    private GameCatalog catalog;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new FieldSelectionConfig().fieldSelectionFilter().customize(builder);
+        objectMapper = builder.build();
+
+        repo = mock(GameRepository.class);
+        Game game = new Game("Chess", 10.0, "Game used by the controller test.", "Strategy", "PC");
+        game.setId("64b000000000000000000001");
+        when(repo.findAll()).thenReturn(List.of(game));
+
+        catalog = new GameCatalog();
+        ReflectionTestUtils.setField(catalog, "repo", repo);
+        CatalogResponseCache responseCache = new CatalogResponseCache();
+        ReflectionTestUtils.setField(responseCache, "catalog", catalog);
+        ReflectionTestUtils.setField(responseCache, "objectMapper", objectMapper);
+        ReflectionTestUtils.invokeMethod(responseCache, "init");
+
+        GameService service = new GameService();
+        ReflectionTestUtils.setField(service, "catalog", catalog);
+
+        GameController controller = new GameController();
+        ReflectionTestUtils.setField(controller, "service", service);
+        ReflectionTestUtils.setField(controller, "versions", versions);
+        ReflectionTestUtils.setField(controller, "responseCache", responseCache);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new ByteArrayHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    void matchingTagIsAnsweredWithoutTouchingTheCatalog() throws Exception {
+        String etag = versions.etag(CacheInvalidationBus.GAMES);
+
+        mvc.perform(get("/games").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(repo, times(0)).findAll();
+    }
+
+    @Test
+    void servesPreSerializedJsonAndReusesItUntilTheCatalogChanges() throws Exception {
+        String stale = versions.etag(CacheInvalidationBus.GAMES);
+        versions.bump(CacheInvalidationBus.GAMES, "g1", 0);
+
+        byte[] first = mvc.perform(get("/games").header("If-None-Match", stale))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", versions.etag(CacheInvalidationBus.GAMES)))
+                .andExpect(header().string("Content-Type", "application/json"))
+                .andExpect(content().json("[{\"id\":\"64b000000000000000000001\",\"name\":\"Chess\"}]"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] second = mvc.perform(get("/games")).andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(first, second);
+        verify(repo, times(1)).findAll();
+    }
+
+    @Test
+    void negotiatesCompressedVariants() throws Exception {
+        byte[] json = mvc.perform(get("/games")).andReturn().getResponse().getContentAsByteArray();
+
+        byte[] gzipped = mvc.perform(get("/games").header("Accept-Encoding", "gzip, br;q=0"))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+
+        if (Brotli4jLoader.isAvailable()) {
+            byte[] brotli = mvc.perform(get("/games").header("Accept-Encoding", "gzip, deflate, br"))
+                    .andExpect(header().string("Content-Encoding", "br"))
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertArrayEquals(json, Decoder.decompress(brotli).getDecompressedData());
+        }
+
+        mvc.perform(get("/games").header("Accept-Encoding", "identity"))
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    void eachCodingHasItsOwnTag() throws Exception {
+        String identity = mvc.perform(get("/games")).andReturn().getResponse().getHeader("ETag");
+        String gzip = mvc.perform(get("/games").header("Accept-Encoding", "gzip, br;q=0"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertNotEquals(identity, gzip);
+        // A gzip tag must not validate the identity bytes, nor the other way round
+        mvc.perform(get("/games").header("If-None-Match", gzip))
+                .andExpect(status().isOk());
+        mvc.perform(get("/games").header("Accept-Encoding", "gzip, br;q=0").header("If-None-Match", identity))
+                .andExpect(status().isOk());
+        mvc.perform(get("/games").header("Accept-Encoding", "gzip, br;q=0").header("If-None-Match", gzip))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void pagesCarryTheNextCursor() throws Exception {
+        Game second = new Game("Racer", 20.0, "Game used by the controller test.", "Racing", "PC");
+        second.setId("64b000000000000000000002");
+        catalog.findAll();
+        catalog.put(second);
+
+        mvc.perform(get("/games").param("limit", "1"))
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "64b000000000000000000001"));
+        mvc.perform(get("/games").param("after", "64b000000000000000000001").param("limit", "1"))
+                .andExpect(content().json("[{\"name\":\"Racer\"}]"))
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "64b000000000000000000002"));
+        mvc.perform(get("/games").param("after", "64b000000000000000000002").param("limit", "1"))
+                .andExpect(content().json("[]"))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void fieldsTrimListAndDetailResponses() throws Exception {
+        mvc.perform(get("/games").param("fields", "name,price"))
+                .andExpect(content().json("[{\"id\":\"64b000000000000000000001\",\"name\":\"Chess\",\"price\":10.0}]", JsonCompareMode.STRICT));
+        mvc.perform(get("/games/64b000000000000000000001").param("fields", "genre"))
+                .andExpect(content().json("{\"id\":\"64b000000000000000000001\",\"genre\":\"Strategy\"}", JsonCompareMode.STRICT));
+        mvc.perform(get("/games"))
+                .andExpect(jsonPath("$[0].description").value("Game used by the controller test."));
+    }
+}
@@ -0,0 +1,51 @@
+package com.gamezone.ecomsystem.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.gamezone.ecomsystem.exception.BusinessException;
+
+class CursorPageTest {
+
+    @Test
+    void fullPageCarriesCursorOfLastItem() {
+        CursorPage<String> page = CursorPage.of(List.of("a", "b", "c"), 3, Function.identity());
+        assertEquals("c", page.getNextCursor());
+        assertEquals("c", page.headers().getFirst(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shortPageIsTheLastOne() {
+        CursorPage<String> page = CursorPage.of(List.of("a", "b"), 3, Function.identity());
+        assertNull(page.getNextCursor());
+        assertNull(page.headers().getFirst(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void limitIsDefaultedAndCapped() {
+        assertEquals(CursorPage.DEFAULT_LIMIT, CursorPage.resolveLimit(null));
+        assertEquals(10, CursorPage.resolveLimit(10));
+        assertEquals(CursorPage.MAX_LIMIT, CursorPage.resolveLimit(1_000_000));
+        assertThrows(BusinessException.class, () -> CursorPage.resolveLimit(0));
+    }
+
+    @Test
+    void cursorMustBeAnObjectId() {
+        assertEquals("000000000000000000000000", CursorPage.ascendingCursor(null));
+        assertEquals("ffffffffffffffffffffffff", CursorPage.descendingCursor(null));
+        assertThrows(BusinessException.class, () -> CursorPage.ascendingCursor("not-a-cursor"));
+    }
+
+    @Test
+    void ledgerCursorIsASequence() {
+        assertEquals(0, CursorPage.sequenceCursor(null));
+        assertEquals(42, CursorPage.sequenceCursor("42"));
+        assertThrows(BusinessException.class, () -> CursorPage.sequenceCursor("65f0c0ffee"));
+    }
+}
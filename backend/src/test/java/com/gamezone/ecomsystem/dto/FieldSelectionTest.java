@@ -0,0 +1,39 @@
+package com.gamezone.ecomsystem.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.model.Member;
+
+class FieldSelectionTest {
+
+    @Test
+    void selectedFieldsBecomeAProjectionThatKeepsTheId() {
+        FieldSelection selection = FieldSelection.parse(" name, balance ,", Member.class);
+
+        Document projection = selection.project(new Query()).getFieldsObject();
+
+        assertEquals(new Document("balance", 1).append("id", 1).append("name", 1), projection);
+        assertEquals("balance,id,name", selection.key());
+    }
+
+    @Test
+    void missingParameterSelectsEverything() {
+        FieldSelection selection = FieldSelection.parse(null, Member.class);
+
+        assertTrue(selection.isAll());
+        assertTrue(selection.project(new Query()).getFieldsObject().isEmpty());
+    }
+
+    @Test
+    void unknownOrHiddenFieldsAreRejected() {
+        assertThrows(BusinessException.class, () -> FieldSelection.parse("name,password", Member.class));
+        assertThrows(BusinessException.class, () -> FieldSelection.parse("ledgerSequence", Member.class));
+    }
+}
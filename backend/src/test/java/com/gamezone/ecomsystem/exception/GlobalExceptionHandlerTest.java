@@ -0,0 +1,80 @@
+package com.gamezone.ecomsystem.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void duplicateKeysKeepTheValidationMessages() {
+        assertEquals("Phone number already exists.", message("POST", "gaminghub.members", "member_phone_unique", "phoneNumber"));
+        assertEquals("Phone number already exists for another member.", message("PUT", "gaminghub.members", "member_phone_unique", "phoneNumber"));
+        assertEquals("Email already exists.", message("POST", "gaminghub.members", "member_email_unique", "email"));
+        assertEquals("Email already exists for another member.", message("PUT", "gaminghub.members", "member_email_unique", "email"));
+        assertEquals("Username already exists", message("POST", "gaminghub.admin", "admin_username_unique", "username"));
+        assertEquals("Email already exists", message("POST", "gaminghub.admin", "admin_email_unique", "email"));
+    }
+
+    @Test
+    void unknownIndexesGetAGenericMessage() {
+        assertEquals("A record with the same unique value already exists.", message("POST", "gaminghub.games", "_id_", "_id"));
+    }
+
+    @Test
+    void rateLimitedRequestsGet429WithRetryAfter() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                handler.handleRateLimit(new RateLimitExceededException("Too many requests for this member, retry in 3 s.", 3));
+
+        assertEquals(429, response.getStatusCode().value());
+        assertEquals("3", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Too many requests for this member, retry in 3 s.", response.getBody().getMessage());
+    }
+
+    @Test
+    void findAndModifyDuplicatesAreReadFromTheCommandError() {
+        BsonDocument response = new BsonDocument("ok", new BsonInt32(0))
+                .append("code", new BsonInt32(11000))
+                .append("errmsg", new BsonString(e11000("gaminghub.members", "member_email_unique", "email")));
+        DuplicateKeyException ex = new DuplicateKeyException("Command failed", new MongoCommandException(response, new ServerAddress()));
+
+        assertEquals("Email already exists for another member.", GlobalExceptionHandler.duplicateKeyMessage(ex, false));
+    }
+
+    @Test
+    void onlyTheDriverErrorIsTrusted() {
+        // The index name in a wrapping message alone is not enough
+        DuplicateKeyException ex = new DuplicateKeyException("Write operation error", new IllegalStateException(
+                e11000("gaminghub.members", "member_phone_unique", "phoneNumber")));
+
+        assertEquals("A record with the same unique value already exists.", GlobalExceptionHandler.duplicateKeyMessage(ex, true));
+    }
+
+    private String message(String method, String collection, String index, String field) {
+        WriteError error = new WriteError(11000, e11000(collection, index, field), new BsonDocument());
+        DuplicateKeyException ex = new DuplicateKeyException("Write operation error",
+                new MongoWriteException(error, new ServerAddress(), Set.of()));
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleDuplicateKey(ex, new MockHttpServletRequest(method, "/"));
+        assertEquals(400, response.getStatusCode().value());
+        return response.getBody().getMessage();
+    }
+
+    private static String e11000(String collection, String index, String field) {
+        return "E11000 duplicate key error collection: " + collection + " index: " + index + " dup key: { " + field + ": \"x\" }";
+    }
+}
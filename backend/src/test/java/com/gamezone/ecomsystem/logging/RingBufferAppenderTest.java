@@ -0,0 +1,124 @@
+package com.gamezone.ecomsystem.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+
+class RingBufferAppenderTest {
+
+    private LoggerContext context;
+    private Logger logger;
+    private RingBufferAppender buffer;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("test");
+        logger.setAdditive(false);
+        buffer = new RingBufferAppender();
+        buffer.setContext(context);
+        buffer.setName("TEST");
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.stop();
+    }
+
+    @Test
+    void writesEventsInOrderOnTheWriterThread() throws Exception {
+        ListAppender<ILoggingEvent> target = started(new ListAppender<>());
+        buffer.addAppender(target);
+        buffer.start();
+        logger.addAppender(buffer);
+
+        for (int i = 0; i < 1000; i++) {
+            logger.info("event {}", i);
+        }
+        buffer.stop();
+
+        assertEquals(1000, target.list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("event " + i, target.list.get(i).getFormattedMessage());
+        }
+        assertEquals(0, buffer.getDropped(Level.INFO));
+    }
+
+    @Test
+    void dropsAndCountsInsteadOfBlockingWhenFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ListAppender<ILoggingEvent> target = started(new ListAppender<>());
+        buffer.addAppender(started(new AppenderBase<ILoggingEvent>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        buffer.addAppender(target);
+        buffer.setCapacity(4);
+        buffer.start();
+        logger.addAppender(buffer);
+
+        logger.info("taken by the writer");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            logger.info("buffered {}", i);
+        }
+        logger.info("dropped");
+        logger.warn("dropped");
+        logger.error("dropped");
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "a full buffer must not block the caller");
+
+        assertEquals(4, buffer.getCapacity());
+        assertEquals(4, buffer.size());
+        assertEquals(1, buffer.getDropped(Level.INFO));
+        assertEquals(2, buffer.getDropped(Level.WARN));
+
+        release.countDown();
+        buffer.stop();
+        assertEquals(List.of("taken by the writer", "buffered 0", "buffered 1", "buffered 2", "buffered 3"),
+                target.list.stream().map(ILoggingEvent::getFormattedMessage).toList());
+    }
+
+    @Test
+    void capturesCallerThreadState() throws Exception {
+        ListAppender<ILoggingEvent> target = started(new ListAppender<>());
+        buffer.addAppender(target);
+        buffer.start();
+        logger.addAppender(buffer);
+
+        logger.info("from {}", Thread.currentThread().getName());
+        buffer.stop();
+
+        assertEquals(Thread.currentThread().getName(), target.list.get(0).getThreadName());
+    }
+
+    private <T extends AppenderBase<ILoggingEvent>> T started(T appender) {
+        appender.setContext(context);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,75 @@
+package com.gamezone.ecomsystem.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private Logger logger;
+    private SamplingTurboFilter filter;
+    private ListAppender<ILoggingEvent> target;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        filter = new SamplingTurboFilter();
+        filter.setRatePerSecond(10);
+        filter.setSampleEvery(5);
+        filter.start();
+        context.addTurboFilter(filter);
+        target = new ListAppender<>();
+        target.setContext(context);
+        target.start();
+        logger = context.getLogger("test");
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(target);
+    }
+
+    @Test
+    void limitsEachCallSiteThenSamples() {
+        for (int i = 0; i < 60; i++) {
+            logger.info("Finding member by id: {}", i);
+        }
+        for (int i = 0; i < 3; i++) {
+            logger.info("Finding game by id: {}", i);
+        }
+
+        // Assumes the loop stays within one second: 10 through the limit, then every 5th of the other 50
+        long members = target.list.stream().filter(e -> e.getMessage().startsWith("Finding member")).count();
+        long games = target.list.stream().filter(e -> e.getMessage().startsWith("Finding game")).count();
+        assertEquals(20, members);
+        assertEquals(3, games);
+        assertEquals(40, filter.getSuppressed());
+    }
+
+    @Test
+    void neverLimitsWarningsAndErrors() {
+        for (int i = 0; i < 50; i++) {
+            logger.warn("Low balance for member {}", i);
+            logger.error("Purchase failed for member {}", i);
+        }
+
+        assertEquals(100, target.list.size());
+        assertEquals(0, filter.getSuppressed());
+    }
+
+    @Test
+    void leavesDisabledLevelsToTheLogger() {
+        logger.setLevel(Level.INFO);
+        for (int i = 0; i < 50; i++) {
+            logger.debug("Cursor {}", i);
+        }
+
+        assertEquals(0, target.list.size());
+        assertEquals(0, filter.getSuppressed());
+    }
+}
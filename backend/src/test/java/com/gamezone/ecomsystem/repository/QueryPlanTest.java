@@ -0,0 +1,133 @@
+package com.gamezone.ecomsystem.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Admin;
+import com.gamezone.ecomsystem.model.BalanceSnapshot;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.LedgerEntry;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+
+/**
+ * Runs explain() on the query behind every repository method and fails if
+ * the winning plan is a collection scan.
+ *
+ * findByNameContainingIgnoreCase on members and games is deliberately left
+ * out: an unanchored case-insensitive regex cannot use index bounds.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void memberQueriesUseIndexes() {
+        assertIndexed(Member.class, query("phoneNumber", "1234567890"));
+        assertIndexed(Member.class, query("email", "john@example.com"));
+        assertIndexed(Member.class, query("active", true));
+    }
+
+    @Test
+    void gameQueriesUseIndexes() {
+        assertIndexed(Game.class, query("status", "ACTIVE"));
+        assertIndexed(Game.class, query("genre", "RPG"));
+        assertIndexed(Game.class, query("platform", "PC"));
+        assertIndexed(Game.class, new Query(Criteria.where("price").gt(10.0).lt(50.0)));
+        assertIndexed(Game.class, new Query(Criteria.where("status").is("ACTIVE").and("genre").is("RPG")));
+    }
+
+    @Test
+    void transactionAndRechargeQueriesUseIndexes() {
+        assertIndexed(Transaction.class, query("memberId", "m1"));
+        assertIndexed(Transaction.class, query("memberId", "m1").with(Sort.by(Sort.Direction.DESC, "date")));
+        assertIndexed(Transaction.class, query("gameId", "g1"));
+        assertIndexed(Transaction.class, new Query().with(Sort.by(Sort.Direction.DESC, "date")).limit(10));
+        assertIndexed(Transaction.class, new Query(Criteria.where("date").gte(new Date(0))));
+        assertIndexed(Recharge.class, query("memberId", "m1"));
+        assertIndexed(Recharge.class, query("memberId", "m1").with(Sort.by(Sort.Direction.DESC, "date")));
+        assertIndexed(Recharge.class, new Query().with(Sort.by(Sort.Direction.DESC, "date")).limit(10));
+    }
+
+    @Test
+    void keysetPagesUseIndexes() {
+        String cursor = "ffffffffffffffffffffffff";
+        assertIndexed(Transaction.class, new Query(Criteria.where("memberId").is("m1").and("_id").lt(new ObjectId(cursor)))
+                .with(Sort.by(Sort.Direction.DESC, "_id")).limit(50));
+        assertIndexed(Recharge.class, new Query(Criteria.where("memberId").is("m1").and("_id").lt(new ObjectId(cursor)))
+                .with(Sort.by(Sort.Direction.DESC, "_id")).limit(50));
+        assertIndexed(Member.class, new Query(Criteria.where("_id").gt(new ObjectId(cursor)))
+                .with(Sort.by("_id")).limit(50));
+        assertIndexed(LedgerEntry.class, new Query(Criteria.where("memberId").is("m1").and("sequence").gt(50L))
+                .with(Sort.by("sequence")).limit(50));
+    }
+
+    @Test
+    void adminQueriesUseIndexes() {
+        assertIndexed(Admin.class, query("username", "admin"));
+        assertIndexed(Admin.class, query("email", "admin@gamezone.com"));
+        assertIndexed(Admin.class, new Query(Criteria.where("username").is("admin").and("isActive").is(true)));
+    }
+
+    @Test
+    void ledgerQueriesUseIndexes() {
+        assertIndexed(LedgerEntry.class, query("memberId", "m1").with(Sort.by("sequence")));
+        assertIndexed(LedgerEntry.class, new Query(Criteria.where("memberId").is("m1").and("sequence").gt(100L))
+                .with(Sort.by("sequence")));
+        assertIndexed(BalanceSnapshot.class, query("memberId", "m1").with(Sort.by(Sort.Direction.DESC, "sequence")).limit(1));
+        assertIndexed(BalanceSnapshot.class, new Query(Criteria.where("memberId").is("m1").and("sequence").is(0L)));
+    }
+
+    private Query query(String field, Object value) {
+        return new Query(Criteria.where(field).is(value));
+    }
+
+    private void assertIndexed(Class<?> entity, Query query) {
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entity))
+                .find(query.getQueryObject())
+                .sort(query.getSortObject())
+                .limit(query.getLimit())
+                .explain();
+        Object winningPlan = ((Document) explain.get("queryPlanner")).get("winningPlan");
+        assertFalse(containsCollScan(winningPlan),
+                () -> "COLLSCAN for " + entity.getSimpleName() + " " + query + ": " + winningPlan);
+    }
+
+    private boolean containsCollScan(Object node) {
+        if (node instanceof Map<?, ?> map) {
+            if ("COLLSCAN".equals(map.get("stage"))) {
+                return true;
+            }
+            return map.values().stream().anyMatch(this::containsCollScan);
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(this::containsCollScan);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.dto.BatchResult;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.MemberRepositoryCustom.WalletUpdate;
+
+/**
+ * A café-sized sync: 10k recharges and purchases over a few hundred members.
+ * Checks the per-item results and that every wallet still agrees with its
+ * ledger afterwards.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class BatchIngestionTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int MEMBERS = 200;
+    private static final int ITEMS = 10_000;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private RechargeService rechargeService;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Test
+    void tenThousandItemsSettleWithConsistentLedgers() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = new Member();
+            member.setName("Cafe member " + i);
+            member.setEmail("cafe" + i + "@example.com");
+            member.setPhoneNumber(String.format("7%09d", i));
+            members.add(memberRepo.save(member));
+        }
+        Game game = gameRepo.save(new Game("Cafe Game", 2.0, "Game used by the batch test.", "Arcade", "PC"));
+
+        List<Recharge> recharges = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            recharges.add(new Recharge(members.get(i % MEMBERS).getId(), 1.0, "Cash", null));
+        }
+        long start = System.nanoTime();
+        BatchResult credited = rechargeService.createBatch(recharges);
+        long rechargeMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(ITEMS, credited.getCreated());
+
+        // Each member now holds 50, enough for 25 of the 50 purchases sent for them
+        List<Transaction> purchases = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            purchases.add(new Transaction(members.get(i % MEMBERS).getId(), game.getId(), 0, null));
+        }
+        start = System.nanoTime();
+        BatchResult charged = transactionService.createBatch(purchases);
+        long purchaseMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(ITEMS / 2, charged.getCreated());
+        assertEquals("Insufficient balance for this transaction.", charged.getItems().get(ITEMS - 1).getError());
+
+        for (Member member : members) {
+            double balance = memberRepo.findById(member.getId()).orElseThrow().getBalance();
+            assertEquals(0.0, balance);
+            assertEquals(balance, walletService.replay(member.getId()), 0.0001);
+        }
+        assertTrue(rechargeMillis < 5000 && purchaseMillis < 5000,
+                "Batches took " + rechargeMillis + " ms and " + purchaseMillis + " ms");
+    }
+
+    @Test
+    void walletUpdatesSkipMovedDeletedAndShortMembers() {
+        Member steady = member("steady", "6000000001");
+        Member moved = member("moved", "6000000002");
+        Member deleted = member("deleted", "6000000003");
+        Member broke = member("broke", "6000000004");
+        List<WalletUpdate> updates = List.of(
+                new WalletUpdate(wallet(steady), 5.0, 1, 0.0),
+                new WalletUpdate(wallet(moved), 5.0, 1, 0.0),
+                new WalletUpdate(wallet(deleted), 5.0, 1, 0.0),
+                new WalletUpdate(wallet(broke), -5.0, 1, 5.0));
+        memberRepo.creditBalance(moved.getId(), 1.0);
+        memberRepo.deleteById(deleted.getId());
+
+        assertEquals(1, memberRepo.applyWalletUpdates(updates));
+
+        assertEquals(5.0, memberRepo.findById(steady.getId()).orElseThrow().getBalance());
+        assertEquals(1L, memberRepo.findById(steady.getId()).orElseThrow().getLedgerSequence());
+        assertEquals(1.0, memberRepo.findById(moved.getId()).orElseThrow().getBalance());
+        assertEquals(0.0, memberRepo.findById(broke.getId()).orElseThrow().getBalance());
+        assertFalse(memberRepo.existsById(deleted.getId()), "No member may be created for a deleted one");
+    }
+
+    private Member member(String name, String phoneNumber) {
+        Member member = new Member();
+        member.setName(name);
+        member.setEmail(name + "@example.com");
+        member.setPhoneNumber(phoneNumber);
+        return memberRepo.save(member);
+    }
+
+    private static Member wallet(Member member) {
+        Member wallet = new Member();
+        wallet.setId(member.getId());
+        wallet.setBalance(member.getBalance());
+        wallet.setLedgerSequence(member.getLedgerSequence());
+        return wallet;
+    }
+}
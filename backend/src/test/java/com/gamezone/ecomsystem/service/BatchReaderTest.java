@@ -0,0 +1,55 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.model.Recharge;
+
+class BatchReaderTest {
+
+    private final BatchReader reader = new BatchReader();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reader, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(reader, "maxItems", 2);
+    }
+
+    @Test
+    void readsEachElementOfTheArray() {
+        List<Recharge> recharges = reader.read(body("[{\"memberId\":\"m1\",\"amount\":10},{\"memberId\":\"m2\",\"amount\":20}]"), Recharge.class);
+
+        assertEquals(2, recharges.size());
+        assertEquals("m2", recharges.get(1).getMemberId());
+        assertEquals(20.0, recharges.get(1).getAmount());
+    }
+
+    @Test
+    void rejectsBatchesOverTheLimit() {
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> reader.read(body("[{\"amount\":1},{\"amount\":2},{\"amount\":3}]"), Recharge.class));
+        assertEquals("A batch cannot have more than 2 items.", e.getMessage());
+    }
+
+    @Test
+    void rejectsBodiesThatAreNotArraysOfObjects() {
+        assertThrows(BusinessException.class, () -> reader.read(body("{\"amount\":1}"), Recharge.class));
+        assertThrows(BusinessException.class, () -> reader.read(body("[1, 2]"), Recharge.class));
+        assertThrows(BusinessException.class, () -> reader.read(body("[]"), Recharge.class));
+        assertThrows(BusinessException.class, () -> reader.read(body("[{\"amount\":1}"), Recharge.class));
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Two buses sharing one loopback transport stand in for two backend nodes.
+ */
+class CacheInvalidationBusTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private final LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+
+    private GameCatalog catalogA;
+    private MemberCache membersA;
+    private GameCatalog catalogB;
+    private MemberCache membersB;
+    private CacheInvalidationBus nodeA;
+    private CacheInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        catalogA = mock(GameCatalog.class);
+        membersA = mock(MemberCache.class);
+        catalogB = mock(GameCatalog.class);
+        membersB = mock(MemberCache.class);
+        nodeA = bus(catalogA, membersA);
+        nodeB = bus(catalogB, membersB);
+    }
+
+    @Test
+    void writeOnOneNodeEvictsOnEveryNode() {
+        nodeA.publish(CacheInvalidationBus.MEMBERS, "m1");
+        nodeA.publish(CacheInvalidationBus.GAMES, "g1");
+
+        verify(membersA).invalidate("m1");
+        verify(membersB).invalidate("m1");
+        verify(catalogB).refresh("g1");
+        verify(catalogB, never()).reload();
+    }
+
+    @Test
+    void collectionWideInvalidationFlushesTheCache() {
+        nodeB.publish(CacheInvalidationBus.GAMES, null);
+        nodeB.publish(CacheInvalidationBus.MEMBERS, null);
+
+        verify(catalogA).reload();
+        verify(membersA).invalidateAll();
+    }
+
+    @Test
+    void failingListenerDoesNotStopTheOthers() {
+        AtomicReference<String> seen = new AtomicReference<>();
+        nodeB.register(CacheInvalidationBus.PRODUCTS, seen::set);
+        nodeB.register(CacheInvalidationBus.PRODUCTS, id -> {
+            throw new IllegalStateException("broken cache");
+        });
+        doThrow(new IllegalStateException("broken cache")).when(catalogA).refresh("g2");
+
+        nodeA.publish(CacheInvalidationBus.PRODUCTS, "p1");
+        nodeA.publish(CacheInvalidationBus.GAMES, "g2");
+
+        assertEquals("p1", seen.get());
+        verify(catalogB).refresh("g2");
+    }
+
+    @Test
+    void ownWritesAreDispatchedAtOnceAndTheirEchoDropped() {
+        EchoingTransport stream = new EchoingTransport();
+        OperationTimeTracker operationTimes = new OperationTimeTracker();
+        GameCatalog catalog = mock(GameCatalog.class);
+        CacheInvalidationBus node = bus(stream, catalog, mock(MemberCache.class), operationTimes);
+
+        write(operationTimes, 100);
+        node.publish(CacheInvalidationBus.GAMES, "g1");
+        verify(catalog, times(1)).refresh("g1"); // Before the database reports it
+
+        stream.deliver(new CacheInvalidation(CacheInvalidationBus.GAMES, "g1", time(100))); // The echo
+        stream.deliver(new CacheInvalidation(CacheInvalidationBus.GAMES, "g1", time(90))); // An older write, already read past
+        verify(catalog, times(1)).refresh("g1");
+
+        stream.deliver(new CacheInvalidation(CacheInvalidationBus.GAMES, "g1", time(101))); // Another node wrote since
+        stream.deliver(new CacheInvalidation(CacheInvalidationBus.GAMES, "g2", time(50)));
+        verify(catalog, times(2)).refresh("g1");
+        verify(catalog).refresh("g2");
+    }
+
+    @Test
+    void withoutClusterTimesEchoesAreDispatchedAgain() {
+        EchoingTransport stream = new EchoingTransport();
+        MemberCache members = mock(MemberCache.class);
+        CacheInvalidationBus node = bus(stream, mock(GameCatalog.class), members, new OperationTimeTracker());
+
+        node.publish(CacheInvalidationBus.MEMBERS, "m1");
+        verify(members, times(1)).invalidate("m1");
+        stream.deliver(new CacheInvalidation(CacheInvalidationBus.MEMBERS, "m1"));
+
+        verify(members, times(2)).invalidate("m1");
+    }
+
+    private static void write(OperationTimeTracker operationTimes, int seconds) {
+        BsonDocument reply = BsonDocument.parse("{ok: 1, operationTime: {$timestamp: {t: " + seconds + ", i: 0}}}");
+        operationTimes.commandSucceeded(new CommandSucceededEvent(null, 1, 1, CONNECTION, "gaminghub", "update", reply, 0));
+        assertEquals(time(seconds), operationTimes.lastOperationTime());
+    }
+
+    private static long time(int seconds) {
+        return new BsonTimestamp(seconds, 0).getValue();
+    }
+
+    /** Stands in for the change stream, which reports writes from every node. */
+    private static class EchoingTransport implements InvalidationTransport {
+        private Consumer<CacheInvalidation> listener;
+
+        @Override
+        public void start(Collection<String> collections, Consumer<CacheInvalidation> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        void deliver(CacheInvalidation invalidation) {
+            listener.accept(invalidation);
+        }
+    }
+
+    private CacheInvalidationBus bus(GameCatalog catalog, MemberCache members) {
+        return bus(transport, catalog, members, new OperationTimeTracker());
+    }
+
+    private CacheInvalidationBus bus(InvalidationTransport transport, GameCatalog catalog, MemberCache members,
+            OperationTimeTracker operationTimes) {
+        CacheInvalidationBus bus = new CacheInvalidationBus();
+        ReflectionTestUtils.setField(bus, "transport", transport);
+        ReflectionTestUtils.setField(bus, "gameCatalog", catalog);
+        ReflectionTestUtils.setField(bus, "memberCache", members);
+        ReflectionTestUtils.setField(bus, "versions", new ResourceVersions());
+        ReflectionTestUtils.setField(bus, "operationTimes", operationTimes);
+        bus.start();
+        return bus;
+    }
+}
@@ -0,0 +1,79 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+
+/**
+ * Writes straight to Mongo, as another instance would, and checks that the
+ * change stream evicts this instance's caches. The Testcontainers image runs
+ * as a single-node replica set, so change streams are available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ChangeStreamInvalidationTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private GameCatalog gameCatalog;
+
+    @Test
+    void remoteWritesReachLocalCaches() throws InterruptedException {
+        Game game = gameService.create(new Game("Relay", 10.0, "Game used by the invalidation test.", "Arcade", "PC"));
+        Member member = new Member();
+        member.setName("Ravi");
+        member.setPhoneNumber("9000000001");
+        member.setEmail("ravi@example.com");
+        member = memberService.create(member);
+        assertEquals(0.0, memberService.findById(member.getId()).getBalance()); // Now cached
+
+        String gameId = game.getId();
+        String memberId = member.getId();
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(gameId)), new Update().set("price", 25.0), Game.class);
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(memberId)), new Update().set("balance", 40.0), Member.class);
+
+        assertTrue(eventually(() -> gameCatalog.findById(gameId).orElseThrow().getPrice() == 25.0));
+        assertTrue(eventually(() -> memberService.findById(memberId).getBalance() == 40.0));
+
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(gameId)), Game.class);
+        assertTrue(eventually(() -> gameCatalog.findById(gameId).isEmpty()));
+    }
+
+    private boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.model.Transaction;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @Test
+    void writesOneJsonDocumentPerLineAndClosesTheCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Transaction> cursor = Stream.of(
+                new Transaction("m1", "g1", 10.0, new Date(1000)),
+                new Transaction("m2", "g2", 20.0, new Date(2000)))
+                .onClose(() -> closed.set(true));
+        when(mongoTemplate.stream(any(Query.class), eq(Transaction.class))).thenReturn(cursor);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportTransactions(null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("m2", second.get("memberId").asText());
+        assertEquals(20.0, second.get("amount").asDouble());
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void unfilteredExportHasNoDateCondition() {
+        // Records without a date must not be dropped from a full-history export
+        Query query = exportService.query(null, null);
+
+        assertTrue(query.getQueryObject().isEmpty());
+        assertEquals(new Document("date", 1), query.getSortObject());
+    }
+
+    @Test
+    void onlyTheGivenBoundsAreApplied() {
+        assertEquals(new Document("date", new Document("$gte", new Date(1000))),
+                exportService.query(new Date(1000), null).getQueryObject());
+        assertEquals(new Document("date", new Document("$lt", new Date(2000))),
+                exportService.query(null, new Date(2000)).getQueryObject());
+        assertEquals(new Document("date", new Document("$gte", new Date(1000)).append("$lt", new Date(2000))),
+                exportService.query(new Date(1000), new Date(2000)).getQueryObject());
+    }
+
+    @Test
+    void rejectsInvertedRange() {
+        assertThrows(BusinessException.class,
+                () -> exportService.validateRange(new Date(2000), new Date(1000)));
+    }
+}
@@ -0,0 +1,98 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.repository.GameRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameCatalogTest {
+
+    @Mock
+    private GameRepository repo;
+
+    @InjectMocks
+    private GameCatalog catalog;
+
+    private Game chess;
+    private Game racer;
+    private Game puzzle;
+
+    @BeforeEach
+    void setUp() {
+        chess = game("Chess", 10.0, "Strategy", "PC", "ACTIVE");
+        racer = game("Racer", 20.0, "Racing", "Console", "ACTIVE");
+        puzzle = game("Puzzle", 30.0, "Strategy", "PC", "INACTIVE");
+        when(repo.findAll()).thenReturn(List.of(puzzle, chess, racer));
+    }
+
+    @Test
+    void answersIndexedLookupsFromOneLoad() {
+        assertEquals(List.of(chess, racer), catalog.findByStatus("ACTIVE"));
+        assertEquals(List.of(chess, puzzle), catalog.findByGenre("Strategy"));
+        assertEquals(List.of(racer), catalog.findByPlatform("Console"));
+        assertEquals(List.of(), catalog.findByGenre("Sports"));
+        assertEquals(chess, catalog.findById(chess.getId()).orElseThrow());
+        assertEquals(List.of(chess, racer, puzzle), catalog.findAll());
+
+        verify(repo, times(1)).findAll();
+    }
+
+    @Test
+    void priceRangeExcludesBothBounds() {
+        assertEquals(List.of(racer), catalog.findByPriceBetween(10.0, 30.0));
+        assertEquals(List.of(chess, racer, puzzle), catalog.findByPriceBetween(0.0, 50.0));
+        assertEquals(List.of(), catalog.findByPriceBetween(30.0, 10.0));
+    }
+
+    @Test
+    void pagesInIdOrder() {
+        CursorPage<Game> first = catalog.findPage(null, 2);
+        assertEquals(List.of(chess, racer), first.getItems());
+        assertEquals(racer.getId(), first.getNextCursor());
+
+        CursorPage<Game> second = catalog.findPage(first.getNextCursor(), 2);
+        assertEquals(List.of(puzzle), second.getItems());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void writesPublishANewSnapshotAndLeaveTheOldOneIntact() {
+        List<Game> before = catalog.findAll();
+
+        Game repriced = game("Chess", 5.0, "Strategy", "PC", "INACTIVE");
+        repriced.setId(chess.getId());
+        catalog.put(repriced);
+        catalog.remove(racer.getId());
+
+        assertEquals(List.of(chess, racer, puzzle), before);
+        assertEquals(List.of(repriced, puzzle), catalog.findAll());
+        assertTrue(catalog.findByStatus("ACTIVE").isEmpty());
+        assertFalse(catalog.findById(racer.getId()).isPresent());
+        assertEquals(List.of(repriced), catalog.findByPriceBetween(0.0, 10.0));
+    }
+
+    private Game game(String name, double price, String genre, String platform, String status) {
+        Game game = new Game(name, price, "Game used by the catalog test.", genre, platform);
+        game.setId(new ObjectId().toHexString());
+        game.setStatus(status);
+        return game;
+    }
+}
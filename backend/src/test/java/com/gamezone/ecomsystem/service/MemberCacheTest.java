@@ -0,0 +1,136 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCacheTest {
+
+    @Mock
+    private MemberRepository repo;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private MemberCache cache;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "expireAfterWrite", Duration.ofMinutes(10));
+        cache.init();
+
+        member = member("asha@example.com", 50.0);
+    }
+
+    @Test
+    void oneLoadServesAllThreeKeys() {
+        when(repo.findByEmail("asha@example.com")).thenReturn(Optional.of(member));
+
+        assertSame(member, cache.findByEmail("asha@example.com").orElseThrow());
+        assertSame(member, cache.findByEmail("asha@example.com").orElseThrow());
+        assertSame(member, cache.findById("m1").orElseThrow());
+        assertSame(member, cache.findByPhoneNumber("9876543210").orElseThrow());
+
+        verify(repo, times(1)).findByEmail("asha@example.com");
+        verify(repo, never()).findById("m1");
+        verify(repo, never()).findByPhoneNumber("9876543210");
+        assertEquals(1.0, lookups("email", "miss"));
+        assertEquals(1.0, lookups("email", "hit"));
+        assertEquals(1.0, lookups("id", "hit"));
+        assertEquals(1.0, lookups("phone", "hit"));
+    }
+
+    @Test
+    void invalidationDropsEveryKey() {
+        Member updated = member("asha@example.org", 20.0);
+        when(repo.findById("m1")).thenReturn(Optional.of(member)).thenReturn(Optional.of(updated));
+        when(repo.findByEmail("asha@example.com")).thenReturn(Optional.empty());
+
+        cache.findById("m1");
+        cache.invalidate("m1");
+
+        assertFalse(cache.findByEmail("asha@example.com").isPresent());
+        assertEquals(20.0, cache.findById("m1").orElseThrow().getBalance());
+        verify(repo, times(2)).findById("m1");
+    }
+
+    @Test
+    void loadThatRacesAnInvalidationIsNotCached() {
+        when(repo.findById("m1")).thenAnswer(invocation -> {
+            cache.invalidate("m1"); // A balance change lands while the read is in flight
+            return Optional.of(member);
+        });
+
+        cache.findById("m1");
+        cache.findById("m1");
+
+        verify(repo, times(2)).findById("m1");
+    }
+
+    @Test
+    void invalidatingAnotherMemberDoesNotDropTheLoad() {
+        when(repo.findById("m1")).thenAnswer(invocation -> {
+            cache.invalidate("m2"); // A purchase by someone else lands while the read is in flight
+            return Optional.of(member);
+        });
+
+        cache.findById("m1");
+        cache.findById("m1");
+
+        verify(repo, times(1)).findById("m1");
+    }
+
+    @Test
+    void loadThatRacesInvalidateAllIsNotCached() {
+        when(repo.findById("m1")).thenAnswer(invocation -> {
+            cache.invalidateAll();
+            return Optional.of(member);
+        });
+
+        cache.findById("m1");
+        cache.findById("m1");
+
+        verify(repo, times(2)).findById("m1");
+    }
+
+    private Member member(String email, double balance) {
+        Member member = new Member();
+        member.setId("m1");
+        member.setName("Asha");
+        member.setPhoneNumber("9876543210");
+        member.setEmail(email);
+        member.setBalance(balance);
+        return member;
+    }
+
+    private double lookups(String key, String result) {
+        return meterRegistry.get("member.cache.lookups").tag("key", key).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,85 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gamezone.ecomsystem.dto.MemberProfileDto;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.RechargeRepository;
+import com.gamezone.ecomsystem.repository.TransactionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MemberServiceTest {
+
+    @Mock
+    private MemberRepository repo;
+
+    @Mock
+    private MemberCache memberCache;
+
+    @Mock
+    private RechargeRepository rechargeRepo;
+
+    @Mock
+    private GameCatalog gameCatalog;
+
+    @Mock
+    private TransactionRepository transactionRepo;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    @Test
+    void profileResolvesPlayedGamesInOneBatch() {
+        Member member = new Member();
+        member.setId("m1");
+        member.setPhoneNumber("1234567890");
+        when(memberCache.findByPhoneNumber("1234567890")).thenReturn(Optional.of(member));
+        when(rechargeRepo.findByMemberId("m1")).thenReturn(List.of());
+        when(gameCatalog.findByStatus(anyString())).thenReturn(List.of());
+
+        List<Transaction> history = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            history.add(new Transaction("m1", "g" + (i % 3), 1.0, new Date()));
+        }
+        history.add(new Transaction("m1", "deleted-game", 1.0, new Date()));
+        when(transactionRepo.findByMemberId("m1")).thenReturn(history);
+        when(gameCatalog.findAllById(Set.of("g0", "g1", "g2", "deleted-game")))
+                .thenReturn(List.of(game("g0", "Zero"), game("g1", "One"), game("g2", "Two")));
+
+        MemberProfileDto profile = memberService.getMemberProfileByPhone("1234567890");
+
+        assertEquals(2001, profile.getPlayed_history().size());
+        assertEquals("One", profile.getPlayed_history().get(1).getGame_name());
+        assertNull(profile.getPlayed_history().get(2000).getGame_name());
+        verify(gameCatalog, times(1)).findAllById(any());
+        verify(gameCatalog, never()).findById(anyString());
+    }
+
+    private Game game(String id, String name) {
+        Game game = new Game(name, 1.0, "Game used by the profile test.", "Arcade", "PC");
+        game.setId(id);
+        return game;
+    }
+}
@@ -0,0 +1,71 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DuplicateKeyException;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+
+/**
+ * Concurrent signups with the same phone number: the unique index lets
+ * exactly one through, which a check-then-insert could not guarantee.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class MemberUniquenessTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int ATTEMPTS = 32;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Test
+    void concurrentCreatesWithOnePhoneNumberInsertOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            int attempt = i;
+            results.add(pool.submit(() -> {
+                Member member = new Member();
+                member.setName("Racer " + attempt);
+                member.setPhoneNumber("9000000001");
+                member.setEmail("racer" + attempt + "@example.com");
+                try {
+                    memberService.create(member);
+                    return true;
+                } catch (DuplicateKeyException e) {
+                    return false;
+                }
+            }));
+        }
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            created += result.get() ? 1 : 0;
+        }
+        pool.shutdown();
+
+        assertEquals(1, created);
+        assertEquals(1, memberRepo.findAll().stream().filter(m -> "9000000001".equals(m.getPhoneNumber())).count());
+    }
+}
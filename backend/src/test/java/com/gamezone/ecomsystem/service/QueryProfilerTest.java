@@ -0,0 +1,79 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+class QueryProfilerTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private QueryProfiler profiler;
+    private int requestId;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new QueryProfiler();
+        ReflectionTestUtils.setField(profiler, "enabled", true);
+        ReflectionTestUtils.setField(profiler, "slowThreshold", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(profiler, "logInterval", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(profiler, "maxShapes", 1000);
+    }
+
+    @Test
+    void valuesAreStrippedFromTheShape() {
+        assertEquals("games find {\"filter\": {\"name\": \"/?/\"}, \"sort\": {\"name\": 1}}",
+                QueryShape.of("find", BsonDocument.parse("{find: 'games', filter: {name: /halo/i}, sort: {name: 1}, $db: 'x'}")).getKey());
+        assertEquals("members find {\"filter\": {\"$or\": [{\"phoneNumber\": \"?\"}], \"balance\": {\"$gt\": \"?\"}, \"city\": {\"$in\": \"[?]\"}}}",
+                QueryShape.of("find", BsonDocument.parse(
+                        "{find: 'members', filter: {$or: [{phoneNumber: '1'}, {phoneNumber: '2'}], balance: {$gt: 5}, city: {$in: ['a', 'b', 'c']}}}")).getKey());
+        assertEquals("transactions aggregate {\"pipeline\": [{\"$match\": {\"memberId\": \"?\"}}, {\"$group\": {\"_id\": null, \"total\": {\"$sum\": \"$amount\"}}}]}",
+                QueryShape.of("aggregate", BsonDocument.parse(
+                        "{aggregate: 'transactions', pipeline: [{$match: {memberId: 'm1'}}, {$group: {_id: null, total: {$sum: '$amount'}}}]}")).getKey());
+        assertNull(QueryShape.of("hello", BsonDocument.parse("{hello: 1}")));
+    }
+
+    @Test
+    void queriesAreAggregatedPerShapeIncludingTheirGetMores() {
+        run("find", "{find: 'games', filter: {name: /halo/i}}", "{cursor: {id: NumberLong(7), firstBatch: [{}, {}]}, ok: 1}", 5);
+        run("getMore", "{getMore: NumberLong(7), collection: 'games'}", "{cursor: {id: NumberLong(0), nextBatch: [{}]}, ok: 1}", 3);
+        run("find", "{find: 'games', filter: {name: /chess/i}}", "{cursor: {id: NumberLong(0), firstBatch: []}, ok: 1}", 150);
+        run("find", "{find: 'members', filter: {email: 'a@b.c'}}", "{cursor: {id: NumberLong(0), firstBatch: [{}]}, ok: 1}", 1);
+
+        List<QueryProfiler.ShapeStats> shapes = profiler.shapes();
+        assertEquals(2, shapes.size());
+        QueryProfiler.ShapeStats games = shapes.get(0);
+        assertEquals("games", games.getCollection());
+        assertEquals(3, games.getCount());
+        assertEquals(3, games.getDocs());
+        assertEquals(158.0, games.getTotalMillis(), 0.001);
+        assertEquals(150.0, games.getMaxMillis(), 0.001);
+        assertEquals(1, games.getSlowCount());
+        assertEquals("members", shapes.get(1).getCollection());
+
+        profiler.reset();
+        assertEquals(0, profiler.shapes().size());
+    }
+
+    private void run(String commandName, String command, String response, long millis) {
+        int id = ++requestId;
+        profiler.commandStarted(new CommandStartedEvent(null, id, id, CONNECTION, "gaminghub", commandName, BsonDocument.parse(command)));
+        profiler.commandSucceeded(new CommandSucceededEvent(null, id, id, CONNECTION, "gaminghub", commandName,
+                BsonDocument.parse(response), TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+}
@@ -0,0 +1,241 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamezone.ecomsystem.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RateLimiter limiter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("rate-limit.transactions.member.capacity", "3")
+                .withProperty("rate-limit.transactions.member.refill-per-second", "0.5")
+                .withProperty("rate-limit.transactions.ip.capacity", "5")
+                .withProperty("rate-limit.recharges.ip.capacity", "0")
+                .withProperty("rate-limit.transactions-batch.member.capacity", "1")
+                .withProperty("rate-limit.transactions-batch.ip.capacity", "2");
+        registry = new SimpleMeterRegistry();
+        limiter = new RateLimiter();
+        ReflectionTestUtils.setField(limiter, "environment", environment);
+        ReflectionTestUtils.setField(limiter, "meterRegistry", registry);
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "idleTimeout", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(limiter, "maxBuckets", 1000);
+        limiter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    void bucketAllowsItsBurstThenRefillsAtTheRate() {
+        TokenBuckets buckets = new TokenBuckets(3, 2, 1000);
+        long now = 0;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("m1", now));
+        }
+        assertEquals(SECOND / 2, buckets.tryAcquire("m1", now));
+        assertEquals(SECOND / 4, buckets.tryAcquire("m1", now + SECOND / 4));
+        assertEquals(0, buckets.tryAcquire("m1", now + SECOND / 2));
+        assertEquals(0, buckets.tryAcquire("m2", now), "keys have their own buckets");
+
+        // Idle long enough to be full again: the same burst, and no more
+        now += 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("m1", now));
+        }
+        assertTrue(buckets.tryAcquire("m1", now) > 0);
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveBeenFullForTheIdleTimeout() {
+        TokenBuckets buckets = new TokenBuckets(3, 1, 1000);
+        buckets.tryAcquire("idle", 0);
+        buckets.tryAcquire("busy", 0);
+        buckets.tryAcquire("busy", 60 * SECOND);
+
+        buckets.evictIdle(61 * SECOND, 30 * SECOND);
+
+        assertEquals(1, buckets.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("idle", 61 * SECOND), "an evicted key starts with a full bucket");
+        }
+    }
+
+    @Test
+    void newKeysAreStillLimitedOnceTheTableIsFull() {
+        TokenBuckets buckets = new TokenBuckets(1, 1, 2);
+        assertEquals(0, buckets.tryAcquire("a", 0));
+        assertEquals(0, buckets.tryAcquire("b", 0));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(TokenBuckets.FULL_TABLE_WAIT, buckets.tryAcquire("flood-" + i, 0));
+        }
+        assertEquals(2, buckets.size());
+        assertEquals(SECOND, buckets.tryAcquire("a", 0), "existing keys keep their own limit");
+
+        buckets.evictIdle(10 * SECOND, 5 * SECOND);
+        assertEquals(0, buckets.tryAcquire("flood-0", 10 * SECOND));
+    }
+
+    @Test
+    void releaseGivesATokenBack() {
+        TokenBuckets buckets = new TokenBuckets(2, 1, 1000);
+        assertEquals(0, buckets.tryAcquire("m1", 0));
+        assertEquals(0, buckets.tryAcquire("m1", 0));
+        assertEquals(SECOND, buckets.tryAcquire("m1", 0));
+
+        buckets.release("m1");
+
+        assertEquals(0, buckets.tryAcquire("m1", 0));
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanTheBurst() throws Exception {
+        TokenBuckets buckets = new TokenBuckets(100, 0.001, 1000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                int taken = 0;
+                for (int i = 0; i < 1000; i++) {
+                    if (buckets.tryAcquire("kiosk", 0) == 0) {
+                        taken++;
+                    }
+                }
+                return taken;
+            }));
+        }
+        start.countDown();
+        int taken = 0;
+        for (Future<Integer> result : results) {
+            taken += result.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(100, taken);
+    }
+
+    @Test
+    void rejectsOverTheMemberLimitWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(RateLimiter.TRANSACTIONS, "m1", "10.0.0." + i);
+        }
+
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire(RateLimiter.TRANSACTIONS, "m1", "10.0.0.9"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1, registry.get("gamezone.ratelimit.rejected").tag("endpoint", "transactions").tag("key", "member").counter().count());
+    }
+
+    @Test
+    void rejectsOverTheClientLimitAcrossMembers() {
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(RateLimiter.TRANSACTIONS, "member-" + i, "10.0.0.1");
+        }
+
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire(RateLimiter.TRANSACTIONS, "member-9", "10.0.0.1"));
+        assertEquals("Too many requests from this client, retry in 1 s.", ex.getMessage());
+        assertEquals(1, registry.get("gamezone.ratelimit.rejected").tag("endpoint", "transactions").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void limitsAreConfiguredPerEndpoint() {
+        // recharges: IP limit turned off, member limit at the defaults (a burst of 10)
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(RateLimiter.RECHARGES, "m1", "10.0.0.1");
+        }
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(RateLimiter.RECHARGES, "m1", "10.0.0.1"));
+        for (int i = 0; i < 200; i++) {
+            limiter.acquire(RateLimiter.RECHARGES, "member-" + i, "10.0.0.1");
+        }
+
+        assertEquals(201, (int) registry.get("gamezone.ratelimit.buckets").gauge().value());
+    }
+
+    @Test
+    void madeUpMembersAreHeldBackByTheClientLimit() {
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(RateLimiter.TRANSACTIONS, "unknown-" + i, "10.0.0.1");
+        }
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(RateLimiter.TRANSACTIONS, "unknown-5", "10.0.0.1"));
+
+        assertEquals(6, (int) registry.get("gamezone.ratelimit.buckets").gauge().value(), "one IP and five members");
+    }
+
+    @Test
+    void batchesAreChargedPerRequestAgainstTheirOwnLimits() {
+        limiter.acquireBatch(RateLimiter.TRANSACTIONS, List.of("m1", "m1", "m2"), "10.0.0.1");
+
+        // Each member in the batch took its one batch token, whatever its number of items
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquireBatch(RateLimiter.TRANSACTIONS, List.of("m3", "m1"), "10.0.0.1"));
+        assertEquals("Too many requests for this member, retry in 1 s.", ex.getMessage());
+
+        // Nothing was kept from the rejected batch: the IP and m3 still have a token
+        limiter.acquireBatch(RateLimiter.TRANSACTIONS, List.of("m3"), "10.0.0.1");
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquireBatch(RateLimiter.TRANSACTIONS, List.of("m4"), "10.0.0.1"));
+
+        // The single-request buckets are untouched
+        limiter.acquire(RateLimiter.TRANSACTIONS, "m1", "10.0.0.1");
+    }
+
+    @Test
+    void defaultConfigAcceptsFullBatches() throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new ResourcePropertySource("classpath:application.properties"));
+        ReflectionTestUtils.setField(limiter, "environment", environment);
+        int maxItems = environment.getProperty("batch.max-items", Integer.class);
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < maxItems; i++) {
+            items.add("member-" + (i % 10));
+        }
+
+        for (int batch = 0; batch < 10; batch++) {
+            limiter.acquireBatch(RateLimiter.TRANSACTIONS, items, "10.0.0.1");
+            limiter.acquireBatch(RateLimiter.RECHARGES, items, "10.0.0.1");
+        }
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquireBatch(RateLimiter.TRANSACTIONS, items, "10.0.0.1"));
+    }
+
+    @Test
+    void disabledLimiterAdmitsEverything() {
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(RateLimiter.TRANSACTIONS, "m1", "10.0.0.1");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ResourceVersionsTest {
+
+    private final ResourceVersions versions = new ResourceVersions();
+
+    @Test
+    void writeChangesTheCollectionAndDocumentTagsOnly() {
+        String games = versions.etag(CacheInvalidationBus.GAMES);
+        String members = versions.etag(CacheInvalidationBus.MEMBERS);
+        String m1 = versions.etag(CacheInvalidationBus.MEMBERS, "m1");
+        String m2 = versions.etag(CacheInvalidationBus.MEMBERS, "m2");
+
+        versions.bump(CacheInvalidationBus.MEMBERS, "m1", 0);
+
+        assertEquals(games, versions.etag(CacheInvalidationBus.GAMES));
+        assertNotEquals(members, versions.etag(CacheInvalidationBus.MEMBERS));
+        assertNotEquals(m1, versions.etag(CacheInvalidationBus.MEMBERS, "m1"));
+        assertEquals(m2, versions.etag(CacheInvalidationBus.MEMBERS, "m2"));
+    }
+
+    @Test
+    void collectionWideWriteChangesEveryDocumentTag() {
+        versions.bump(CacheInvalidationBus.MEMBERS, "m1", 0);
+        String m1 = versions.etag(CacheInvalidationBus.MEMBERS, "m1");
+        String m2 = versions.etag(CacheInvalidationBus.MEMBERS, "m2");
+
+        versions.bump(CacheInvalidationBus.MEMBERS, null, 0);
+
+        assertNotEquals(m1, versions.etag(CacheInvalidationBus.MEMBERS, "m1"));
+        assertNotEquals(m2, versions.etag(CacheInvalidationBus.MEMBERS, "m2"));
+    }
+
+    @Test
+    void tagsAreQuotedStrongValidators() {
+        String tag = versions.etag(CacheInvalidationBus.PRODUCTS);
+        assertEquals('"', tag.charAt(0));
+        assertEquals('"', tag.charAt(tag.length() - 1));
+    }
+
+    @Test
+    void instancesThatSawTheSameWritesAgree() {
+        ResourceVersions early = new ResourceVersions();
+        ResourceVersions late = new ResourceVersions();
+        early.startAt(100);
+        early.bump(CacheInvalidationBus.GAMES, "g1", 150);
+        early.bump(CacheInvalidationBus.MEMBERS, "m1", 160);
+        late.startAt(200);
+
+        // Nothing written since either started: each reports its own start, so no false match
+        assertNotEquals(early.etag(CacheInvalidationBus.PRODUCTS), late.etag(CacheInvalidationBus.PRODUCTS));
+
+        early.bump(CacheInvalidationBus.GAMES, "g2", 250);
+        late.bump(CacheInvalidationBus.GAMES, "g2", 250);
+        early.bump(CacheInvalidationBus.MEMBERS, "m1", 260);
+        late.bump(CacheInvalidationBus.MEMBERS, "m1", 260);
+
+        assertEquals(early.etag(CacheInvalidationBus.GAMES), late.etag(CacheInvalidationBus.GAMES));
+        assertEquals(early.etag(CacheInvalidationBus.MEMBERS, "m1"), late.etag(CacheInvalidationBus.MEMBERS, "m1"));
+    }
+
+    @Test
+    void clusterTimeTagsSurviveARestart() {
+        ResourceVersions before = new ResourceVersions();
+        ResourceVersions after = new ResourceVersions();
+        before.startAt(100);
+        after.startAt(100);
+
+        assertEquals(before.etag(CacheInvalidationBus.GAMES), after.etag(CacheInvalidationBus.GAMES));
+        // Local counters carry a per-process epoch instead
+        assertNotEquals(versions.etag(CacheInvalidationBus.GAMES), before.etag(CacheInvalidationBus.GAMES));
+    }
+
+    @Test
+    void codingsGetDistinctTags() {
+        String tag = versions.etag(CacheInvalidationBus.GAMES);
+
+        assertEquals(tag, ResourceVersions.forCoding(tag, null));
+        assertNotEquals(ResourceVersions.forCoding(tag, "gzip"), ResourceVersions.forCoding(tag, "br"));
+        assertEquals('"', ResourceVersions.forCoding(tag, "br").charAt(0));
+        assertEquals('"', ResourceVersions.forCoding(tag, "br").charAt(tag.length() + 2));
+    }
+}
@@ -0,0 +1,86 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamezone.ecomsystem.RoundTripFilter;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RoundTripTrackerTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private RoundTripTracker tracker;
+    private final List<RoundTrips> finished = new ArrayList<>();
+    private int requestId;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new RoundTripTracker();
+        ReflectionTestUtils.setField(tracker, "repeatThreshold", 3);
+        tracker.addListener(finished::add);
+    }
+
+    @Test
+    void repeatedShapesAreFlagged() {
+        RoundTrips trips = tracker.begin("GET /members/{id}");
+        find("{find: 'members', filter: {_id: 'm1'}}", 2);
+        for (int i = 0; i < 4; i++) {
+            find("{find: 'games', filter: {_id: 'g" + i + "'}}", 1);
+        }
+        tracker.end(trips);
+        find("{find: 'games', filter: {_id: 'outside'}}", 1); // No unit open, not counted
+
+        assertEquals(List.of(trips), finished);
+        assertEquals(5, trips.getCommands());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(6), trips.getNanos());
+        assertEquals(Map.of("games find {\"filter\": {\"_id\": \"?\"}}", 4), trips.getRepeated());
+        assertEquals("mongo;dur=6.00;desc=\"5 commands\"", trips.serverTiming());
+    }
+
+    @Test
+    void filterSendsServerTimingAndRecordsMetrics() throws Exception {
+        RoundTripFilter filter = new RoundTripFilter();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(filter, "tracker", tracker);
+        ReflectionTestUtils.setField(filter, "meterRegistry", registry);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/dashboard/admin/stats"), response, (req, res) -> {
+            find("{find: 'platform_stats', filter: {_id: 'global'}}", 1);
+            find("{find: 'transactions', filter: {}, sort: {date: -1}, limit: 10}", 1);
+            res.getOutputStream().write('{');
+            find("{find: 'recharges', filter: {}}", 1); // After the body started, only in the metrics
+        });
+
+        assertEquals("mongo;dur=2.00;desc=\"2 commands\"", response.getHeader(RoundTripFilter.HEADER));
+        assertEquals(3.0, registry.get("gamezone.http.mongo.commands").summary().totalAmount());
+        assertTrue(finished.get(0).getName().startsWith("GET "));
+    }
+
+    private void find(String command, long millis) {
+        int id = ++requestId;
+        tracker.commandStarted(new CommandStartedEvent(null, id, id, CONNECTION, "gaminghub", "find", BsonDocument.parse(command)));
+        tracker.commandSucceeded(new CommandSucceededEvent(null, id, id, CONNECTION, "gaminghub", "find",
+                BsonDocument.parse("{ok: 1}"), TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+}
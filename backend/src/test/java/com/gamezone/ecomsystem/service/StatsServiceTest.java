@@ -0,0 +1,119 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.RechargeRepository;
+import com.gamezone.ecomsystem.repository.TransactionRepository;
+
+/**
+ * Checks the admin stats against the same figures computed in Java, and
+ * that the incrementally maintained counters agree with a full rebuild.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class StatsServiceTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private RechargeService rechargeService;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Autowired
+    private TransactionRepository transactionRepo;
+
+    @Autowired
+    private RechargeRepository rechargeRepo;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aggregatedStatsMatchInMemoryComputation() {
+        List<Member> members = memberRepo.findAll();
+        List<Transaction> transactions = transactionRepo.findAll();
+        List<Recharge> recharges = rechargeRepo.findAll();
+
+        Map<String, Object> stats = statsService.getAdminStats();
+
+        assertEquals(members.size(), stats.get("totalMembers"));
+        assertEquals((int) gameRepo.count(), stats.get("totalGames"));
+        assertEquals(transactions.size(), stats.get("totalTransactions"));
+        assertEquals(recharges.size(), stats.get("totalRecharges"));
+        assertEquals(members.stream().filter(m -> m.getBalance() > 0).count(), stats.get("activeMembers"));
+        assertEquals(transactions.stream().mapToDouble(Transaction::getAmount).sum(), (double) stats.get("totalRevenue"), 1e-9);
+        assertEquals(recharges.stream().mapToDouble(Recharge::getAmount).sum(), (double) stats.get("totalRechargeAmount"), 1e-9);
+
+        List<String> expectedRecent = transactions.stream()
+                .sorted(Comparator.comparing(Transaction::getDate).reversed())
+                .limit(10)
+                .map(Transaction::getId)
+                .collect(Collectors.toList());
+        List<String> recent = ((List<Map<String, Object>>) stats.get("recentTransactions")).stream()
+                .map(tx -> (String) tx.get("id"))
+                .collect(Collectors.toList());
+        // Compared as sets because transactions created in the same millisecond may tie
+        assertEquals(new HashSet<>(expectedRecent), new HashSet<>(recent));
+    }
+
+    @Test
+    void incrementalCountersMatchRebuild() {
+        statsService.rebuild();
+
+        Member member = new Member();
+        member.setName("Stats Member");
+        member.setPhoneNumber("4000000010");
+        member.setEmail("stats@example.com");
+        member = memberService.create(member);
+        Game game = gameService.create(new Game("Stats Game", 5.0, "Game used by the stats test.", "Arcade", "PC"));
+        rechargeService.create(new Recharge(member.getId(), 20.0, "Cash", null));
+        transactionService.create(new Transaction(member.getId(), game.getId(), 0, null));
+        gameService.delete(game.getId());
+
+        Map<String, Object> incremental = statsService.getAdminStats();
+        statsService.rebuild();
+        Map<String, Object> rebuilt = statsService.getAdminStats();
+
+        for (String key : List.of("totalMembers", "activeMembers", "totalGames", "totalTransactions",
+                "totalRevenue", "totalRecharges", "totalRechargeAmount")) {
+            assertEquals(rebuilt.get(key), incremental.get(key), key);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.PlatformStats;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+
+/**
+ * Runs the seed profile at a small scale: the runner fills the database on
+ * startup, and the data must have the requested volumes, a skewed purchase
+ * distribution, no activity before a member joined and matching platform stats.
+ */
+@SpringBootTest(properties = {
+        "seed.members=2000",
+        "seed.games=50",
+        "seed.transactions=20000",
+        "seed.recharges=3000",
+        "seed.batch-size=500",
+        "seed.threads=4" })
+@ActiveProfiles("seed")
+@Testcontainers(disabledWithoutDocker = true)
+class SyntheticDataSeederTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void seedsRequestedVolumesWithSkew() {
+        assertEquals(2000, mongoTemplate.count(new Query(), Member.class));
+        assertEquals(50, mongoTemplate.count(new Query(), Game.class));
+        assertEquals(20000, mongoTemplate.count(new Query(), Transaction.class));
+        assertEquals(3000, mongoTemplate.count(new Query(), Recharge.class));
+
+        List<Document> busiest = mongoTemplate.aggregate(Aggregation.newAggregation(
+                Aggregation.group("memberId").count().as("count"),
+                Aggregation.sort(Sort.Direction.DESC, "count"),
+                Aggregation.limit(20)), Transaction.class, Document.class).getMappedResults();
+        long top1Percent = busiest.stream().mapToLong(d -> ((Number) d.get("count")).longValue()).sum();
+        assertTrue(top1Percent > 20000 / 5, "top 1% of members made " + top1Percent + " purchases");
+
+        Map<String, Date> joined = new HashMap<>();
+        mongoTemplate.findAll(Member.class).forEach(member -> joined.put(member.getId(), member.getJoiningDate()));
+        for (Transaction transaction : mongoTemplate.findAll(Transaction.class)) {
+            assertFalse(transaction.getDate().before(joined.get(transaction.getMemberId())),
+                    "purchase " + transaction.getId() + " predates its member");
+        }
+        for (Recharge recharge : mongoTemplate.findAll(Recharge.class)) {
+            assertFalse(recharge.getDate().before(joined.get(recharge.getMemberId())),
+                    "recharge " + recharge.getId() + " predates its member");
+        }
+
+        PlatformStats stats = mongoTemplate.findAll(PlatformStats.class).get(0);
+        assertEquals(2000, stats.getTotalMembers());
+        assertEquals(20000, stats.getTotalTransactions());
+    }
+}
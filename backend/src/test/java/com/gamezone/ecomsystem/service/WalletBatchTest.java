@@ -0,0 +1,230 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamezone.ecomsystem.model.BalanceSnapshot;
+import com.gamezone.ecomsystem.model.LedgerEntry;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.BalanceSnapshotRepository;
+import com.gamezone.ecomsystem.repository.LedgerEntryRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.MemberRepositoryCustom.WalletUpdate;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+@ExtendWith(MockitoExtension.class)
+class WalletBatchTest {
+
+    @Mock
+    private MemberRepository memberRepo;
+
+    @Mock
+    private LedgerEntryRepository ledgerRepo;
+
+    @Mock
+    private BalanceSnapshotRepository snapshotRepo;
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private WalletService walletService;
+
+    private final BulkOperations ledgerBulk = mock(BulkOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(walletService, "snapshotInterval", 100L);
+    }
+
+    @Test
+    void changesRunInOrderPerMemberAndGoOutAsOneUpdateEach() {
+        when(memberRepo.findWallets(any())).thenReturn(List.of(wallet("m1", 20.0, 5), wallet("m2", 0.0, 0)));
+        when(memberRepo.applyWalletUpdates(anyList())).thenReturn(2);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LedgerEntry.class)).thenReturn(ledgerBulk);
+        when(ledgerBulk.insert(anyList())).thenReturn(ledgerBulk);
+        BulkOperations snapshotBulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BalanceSnapshot.class)).thenReturn(snapshotBulk);
+        when(snapshotBulk.insert(anyList())).thenReturn(snapshotBulk);
+
+        String[] errors = walletService.applyBatch(List.of(
+                debit("m1", 15.0, "t1"),
+                credit("m2", 10.0, "r1"),
+                debit("m1", 10.0, "t2"), // Only 5 left after t1
+                debit("m1", 5.0, "t3"),
+                debit("missing", 1.0, "t4")));
+
+        assertArrayEquals(new String[] { null, null, "Insufficient balance for this transaction.", null,
+                "Member not found with id: missing" }, errors);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WalletUpdate>> updates = ArgumentCaptor.forClass(List.class);
+        verify(memberRepo).applyWalletUpdates(updates.capture());
+        assertEquals(2, updates.getValue().size());
+        assertEquals(-20.0, updates.getValue().get(0).getDelta());
+        assertEquals(2, updates.getValue().get(0).getEntries());
+        assertEquals(20.0, updates.getValue().get(0).getRequired());
+        assertEquals(0.0, updates.getValue().get(1).getRequired());
+        assertEquals(10.0, updates.getValue().get(1).getDelta());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(ledgerBulk).insert(entries.capture());
+        assertEquals(List.of(6L, 7L, 1L), entries.getValue().stream().map(LedgerEntry::getSequence).toList());
+
+        // m2 had no ledger yet, so its opening balance is snapshotted
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceSnapshot>> snapshots = ArgumentCaptor.forClass(List.class);
+        verify(snapshotBulk).insert(snapshots.capture());
+        assertEquals(1, snapshots.getValue().size());
+        assertEquals("m2", snapshots.getValue().get(0).getMemberId());
+        assertEquals(0.0, snapshots.getValue().get(0).getBalance());
+
+        verify(statsService).recordBalanceChange(20.0, 0.0);
+        verify(statsService).recordBalanceChange(0.0, 10.0);
+        verify(invalidationBus).publish(CacheInvalidationBus.MEMBERS, "m1");
+        verify(invalidationBus).publish(CacheInvalidationBus.MEMBERS, "m2");
+    }
+
+    @Test
+    void memberWhoseWalletMovedIsRetriedOneChangeAtATime() {
+        when(memberRepo.findWallets(any())).thenReturn(List.of(wallet("m1", 5.0, 3)));
+        when(memberRepo.applyWalletUpdates(anyList())).thenReturn(0);
+        // Meanwhile a recharge landed, so both debits now fit
+        when(memberRepo.debitBalance(eq("m1"), anyDouble()))
+                .thenReturn(Optional.of(wallet("m1", 50.0, 5)))
+                .thenReturn(Optional.of(wallet("m1", 40.0, 6)));
+
+        String[] errors = walletService.applyBatch(List.of(debit("m1", 5.0, "t1"), debit("m1", 10.0, "t2")));
+
+        assertArrayEquals(new String[] { null, null }, errors);
+        verify(memberRepo).debitBalance("m1", 5.0);
+        verify(memberRepo).debitBalance("m1", 10.0);
+        verify(ledgerBulk, never()).insert(anyList());
+    }
+
+    @Test
+    void memberTheBulkCountCannotPlaceIsSettledByTheLedgerKey() {
+        // Read at sequence 5; by the second read something took it to 6, which is where the update would have too
+        when(memberRepo.findWallets(any()))
+                .thenReturn(List.of(wallet("m1", 20.0, 5)))
+                .thenReturn(List.of(wallet("m1", 30.0, 6)));
+        when(memberRepo.applyWalletUpdates(anyList())).thenReturn(0);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LedgerEntry.class)).thenReturn(ledgerBulk);
+        when(ledgerBulk.insert(anyList())).thenReturn(ledgerBulk);
+        BulkWriteError error = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0);
+        when(ledgerBulk.execute()).thenThrow(new BulkOperationException("duplicate key",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of())));
+        // A recharge holds sequence 6, so the update was not ours
+        when(ledgerRepo.findByMemberIdAndSequence("m1", 6)).thenReturn(Optional.of(
+                new LedgerEntry("m1", 6, LedgerEntry.CREDIT, 10.0, LedgerEntry.REF_RECHARGE, "r1")));
+        when(memberRepo.debitBalance("m1", 5.0)).thenReturn(Optional.of(wallet("m1", 25.0, 7)));
+
+        String[] errors = walletService.applyBatch(List.of(debit("m1", 5.0, "t1")));
+
+        assertArrayEquals(new String[] { null }, errors);
+        verify(memberRepo).debitBalance("m1", 5.0);
+        verify(memberRepo, never()).adjustBalance(eq("m1"), anyDouble());
+    }
+
+    @Test
+    void sequenceABatchRecordedFirstIsTakenIntoTheProjection() {
+        when(memberRepo.debitBalance("m1", 15.0)).thenReturn(Optional.of(wallet("m1", 5.0, 6)));
+        when(ledgerRepo.insert(any(LedgerEntry.class))).thenThrow(new DuplicateKeyException("duplicate key"));
+        when(ledgerRepo.findByMemberIdAndSequence("m1", 6)).thenReturn(Optional.of(
+                new LedgerEntry("m1", 6, LedgerEntry.CREDIT, 10.0, LedgerEntry.REF_RECHARGE, "r1")));
+
+        assertThrows(DuplicateKeyException.class, () -> walletService.debit("m1", 15.0, LedgerEntry.REF_TRANSACTION, "t1"));
+
+        // The debit is taken back and the batch's credit, which the ledger holds instead, is put in
+        verify(memberRepo).adjustBalance("m1", 25.0);
+        verify(snapshotRepo).deleteByMemberIdAndSequenceGreaterThanEqual("m1", 6);
+    }
+
+    @Test
+    void lostLedgerEntryIsTakenBackWithoutANewSequence() {
+        when(memberRepo.debitBalance("m1", 15.0)).thenReturn(Optional.of(wallet("m1", 5.0, 6)));
+        when(ledgerRepo.insert(any(LedgerEntry.class))).thenThrow(new IllegalStateException("write failed"));
+
+        assertThrows(IllegalStateException.class, () -> walletService.debit("m1", 15.0, LedgerEntry.REF_TRANSACTION, "t1"));
+
+        verify(memberRepo).adjustBalance("m1", 15.0);
+        verify(memberRepo, never()).creditBalance(eq("m1"), anyDouble());
+        // A concurrent append may have snapshotted a balance that still had the debit
+        verify(snapshotRepo).deleteByMemberIdAndSequenceGreaterThanEqual("m1", 6);
+    }
+
+    @Test
+    void lostBatchedEntriesAreTakenBackAndLaterSnapshotsDropped() {
+        when(memberRepo.findWallets(any())).thenReturn(List.of(wallet("m1", 0.0, 98)));
+        when(memberRepo.applyWalletUpdates(anyList())).thenReturn(1);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LedgerEntry.class)).thenReturn(ledgerBulk);
+        when(ledgerBulk.insert(anyList())).thenReturn(ledgerBulk);
+        BulkWriteError error = new BulkWriteError(1, "write failed", new BsonDocument(), 1);
+        when(ledgerBulk.execute()).thenThrow(new BulkOperationException("write failed",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of())));
+
+        String[] errors = walletService.applyBatch(List.of(
+                credit("m1", 10.0, "r1"),
+                credit("m1", 20.0, "r2"), // Sequence 100 is lost, and with it the snapshot taken there
+                credit("m1", 30.0, "r3")));
+
+        assertArrayEquals(new String[] { null, "Could not record the balance change.", null }, errors);
+        verify(memberRepo).adjustBalance("m1", -20.0);
+        verify(memberRepo, never()).creditBalance(eq("m1"), anyDouble());
+        verify(snapshotRepo).deleteByMemberIdAndSequenceGreaterThanEqual("m1", 100);
+        verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, BalanceSnapshot.class);
+    }
+
+    private static WalletChange debit(String memberId, double amount, String referenceId) {
+        return new WalletChange(memberId, LedgerEntry.DEBIT, amount, LedgerEntry.REF_TRANSACTION, referenceId);
+    }
+
+    private static WalletChange credit(String memberId, double amount, String referenceId) {
+        return new WalletChange(memberId, LedgerEntry.CREDIT, amount, LedgerEntry.REF_RECHARGE, referenceId);
+    }
+
+    private static Member wallet(String id, double balance, long sequence) {
+        Member member = new Member();
+        member.setId(id);
+        member.setBalance(balance);
+        member.setLedgerSequence(sequence);
+        return member;
+    }
+}
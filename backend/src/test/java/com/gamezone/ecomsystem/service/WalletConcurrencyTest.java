@@ -0,0 +1,156 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.exception.BusinessException;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.LedgerEntry;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.TransactionRepository;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class WalletConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int PURCHASES = 4000;
+    private static final int AFFORDABLE = 1500;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private RechargeService rechargeService;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Autowired
+    private TransactionRepository transactionRepo;
+
+    @Test
+    void parallelPurchasesNeverOverdrawOrLoseUpdates() throws Exception {
+        Member member = memberRepo.save(member("4000000001", "purchases@example.com", AFFORDABLE));
+        Game game = gameRepo.save(new Game("Kiosk Game", 1.0, "Game used by the concurrency test.", "Arcade", "PC"));
+
+        List<Callable<Boolean>> purchases = new ArrayList<>();
+        for (int i = 0; i < PURCHASES; i++) {
+            purchases.add(() -> {
+                try {
+                    transactionService.create(new Transaction(member.getId(), game.getId(), 0, null));
+                    return true;
+                } catch (BusinessException e) {
+                    return false;
+                }
+            });
+        }
+
+        int succeeded = 0;
+        for (Future<Boolean> result : runAll(purchases)) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+
+        assertEquals(AFFORDABLE, succeeded);
+        assertEquals(0.0, memberRepo.findById(member.getId()).orElseThrow().getBalance());
+        assertEquals(AFFORDABLE, transactionRepo.findByMemberId(member.getId()).size());
+        assertEquals(AFFORDABLE, ledgerSize(member.getId()));
+        assertEquals(0.0, walletService.getBalance(member.getId()));
+        assertEquals(0.0, walletService.replay(member.getId()));
+    }
+
+    @Test
+    void parallelRechargesAreAllApplied() throws Exception {
+        Member member = memberRepo.save(member("4000000002", "recharges@example.com", 0));
+
+        List<Callable<Boolean>> recharges = new ArrayList<>();
+        for (int i = 0; i < PURCHASES; i++) {
+            recharges.add(() -> rechargeService.create(new Recharge(member.getId(), 1.0, "Cash", null)) != null);
+        }
+        for (Future<Boolean> result : runAll(recharges)) {
+            result.get();
+        }
+
+        assertEquals(PURCHASES, memberRepo.findById(member.getId()).orElseThrow().getBalance());
+        assertEquals(PURCHASES, walletService.getBalance(member.getId()));
+    }
+
+    @Test
+    void rebuildRestoresBalanceFromLedger() {
+        Member member = memberRepo.save(member("4000000003", "rebuild@example.com", 25));
+        rechargeService.create(new Recharge(member.getId(), 100.0, "Cash", null));
+        rechargeService.create(new Recharge(member.getId(), 50.0, "Cash", null));
+
+        // Simulate a drifted projection
+        memberRepo.resetBalance(member.getId(), 9999, 0);
+
+        assertEquals(175.0, walletService.rebuild(member.getId()));
+        assertEquals(175.0, memberRepo.findById(member.getId()).orElseThrow().getBalance());
+    }
+
+    private List<Future<Boolean>> runAll(List<Callable<Boolean>> tasks) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        try {
+            return pool.invokeAll(tasks);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Member member(String phoneNumber, String email, double balance) {
+        Member member = new Member();
+        member.setName("Concurrent Member");
+        member.setPhoneNumber(phoneNumber);
+        member.setEmail(email);
+        member.setBalance(balance);
+        return member;
+    }
+
+    // Walks the ledger page by page; no entry may be repeated or skipped between pages
+    private int ledgerSize(String memberId) {
+        int size = 0;
+        long last = 0;
+        String after = null;
+        do {
+            CursorPage<LedgerEntry> page = walletService.getLedgerPage(memberId, after, CursorPage.MAX_LIMIT);
+            for (LedgerEntry entry : page.getItems()) {
+                assertTrue(entry.getSequence() > last);
+                last = entry.getSequence();
+                size++;
+            }
+            after = page.getNextCursor();
+        } while (after != null);
+        return size;
+    }
+}
@@ -0,0 +1,45 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ZipfSamplerTest {
+
+    @Test
+    void lowRanksDominate() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.07);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[sampler.size()];
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        int top10 = 0;
+        for (int k = 0; k < 10; k++) {
+            top10 += counts[k];
+        }
+        // The top 1% of ranks carries well over a third of the draws
+        assertTrue(top10 > 35_000, "top 10 ranks drew " + top10);
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[10]);
+    }
+
+    @Test
+    void samplesStayInRange() {
+        ZipfSampler sampler = new ZipfSampler(3, 0.0);
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 10_000; i++) {
+            int rank = sampler.sample(random);
+            assertTrue(rank >= 0 && rank < 3);
+        }
+        assertEquals(1, new ZipfSampler(1, 2.0).size());
+    }
+
+    @Test
+    void rejectsEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+    }
+}
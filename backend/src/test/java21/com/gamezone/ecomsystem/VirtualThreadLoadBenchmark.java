@@ -0,0 +1,202 @@
+package com.gamezone.ecomsystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Dashboard reads and purchases at several thousand open connections, once
+ * on platform-thread Tomcat and once on virtual threads, against the same
+ * Mongo. Reports throughput, p50/p99 latency, peak heap and peak live threads
+ * for each run.
+ *
+ * Opt-in: {@code mvn -Pvirtual-threads test -Dtest=VirtualThreadLoadBenchmark -Dbenchmark=true},
+ * optionally with -Dbenchmark.connections (default 5000) and
+ * -Dbenchmark.requests (default 50000). Raise the open file limit first
+ * (ulimit -n 20000): client and server share this JVM, so each connection
+ * costs two descriptors.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadLoadBenchmark {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 5000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 50_000);
+    private static final int MEMBERS = 1000;
+    private static final int PURCHASE_EVERY = 5; // One request in five is a purchase
+
+    @Test
+    void compareThreadModels() {
+        ConnectionProvider connections = ConnectionProvider.builder("benchmark")
+                .maxConnections(CONNECTIONS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections).responseTimeout(Duration.ofMinutes(2))))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(64 * 1024 * 1024))
+                .build();
+        try {
+            System.out.printf("%-10s %10s %10s %10s %12s %12s %8s%n", "threads", "req/s", "p50 ms", "p99 ms", "peak heap MB", "peak threads", "errors");
+            for (boolean virtual : new boolean[] { false, true }) {
+                try (ConfigurableApplicationContext context = start(virtual)) {
+                    Fixture fixture = seed(context);
+                    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                    run(client, port, fixture, REQUESTS / 5); // Warm up the JIT and the pools
+                    Result result = run(client, port, fixture, REQUESTS);
+                    System.out.printf("%-10s %10.0f %10.2f %10.2f %12.1f %12d %8d%n", virtual ? "virtual" : "platform",
+                            result.throughput(), result.percentile(0.50), result.percentile(0.99),
+                            result.peakHeapBytes / (1024.0 * 1024.0), result.peakThreads, result.failures);
+                    assertEquals(0, result.failures, (virtual ? "virtual" : "platform") + " run had failed requests");
+                }
+                System.gc();
+            }
+        } finally {
+            connections.disposeLater().block();
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(EcomsystemApplication.class)
+                .properties(Map.of(
+                        "spring.data.mongodb.uri", mongo.getReplicaSetUrl("benchmark"),
+                        "spring.threads.virtual.enabled", Boolean.toString(virtual),
+                        "server.port", "0",
+                        "server.tomcat.max-connections", Integer.toString(CONNECTIONS * 2),
+                        "server.tomcat.accept-count", Integer.toString(CONNECTIONS),
+                        "cache.invalidation.transport", "loopback",
+                        "logging.level.org.springframework.data.mongodb", "WARN",
+                        "logging.level.com.gamezone.ecomsystem", "WARN"))
+                .run();
+    }
+
+    private Fixture seed(ConfigurableApplicationContext context) {
+        MemberRepository members = context.getBean(MemberRepository.class);
+        GameRepository games = context.getBean(GameRepository.class);
+        List<String> memberIds = new ArrayList<>();
+        if (members.count() < MEMBERS) {
+            List<Member> batch = new ArrayList<>();
+            for (int i = 0; i < MEMBERS; i++) {
+                Member member = new Member();
+                member.setName("Load member " + i);
+                member.setEmail("load" + i + "@example.com");
+                member.setPhoneNumber(String.format("8%09d", i));
+                member.setBalance(1_000_000_000.0); // Purchases must never run out of balance
+                batch.add(member);
+            }
+            members.saveAll(batch);
+        }
+        members.findAll().forEach(member -> memberIds.add(member.getId()));
+        List<String> gameIds = games.findAll().stream().map(Game::getId).toList();
+        return new Fixture(memberIds, gameIds);
+    }
+
+    private Result run(WebClient client, int port, Fixture fixture, int requests) {
+        String base = "http://localhost:" + port;
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicInteger peakThreads = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+        }, 0, 50, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        try {
+            Flux.range(0, requests)
+                    .flatMap(i -> Mono.defer(() -> {
+                        long sent = System.nanoTime();
+                        String memberId = fixture.memberIds.get(i % fixture.memberIds.size());
+                        Mono<?> call = i % PURCHASE_EVERY == 0
+                                ? client.post().uri(base + "/transactions")
+                                        .bodyValue(Map.of("memberId", memberId, "gameId", fixture.gameIds.get(i % fixture.gameIds.size())))
+                                        .retrieve().toBodilessEntity()
+                                : client.get().uri(base + "/dashboard/user/" + memberId).retrieve().toBodilessEntity();
+                        return call
+                                .doOnNext(response -> latencies[next.getAndIncrement()] = System.nanoTime() - sent)
+                                .onErrorResume(e -> {
+                                    failures.incrementAndGet();
+                                    return Mono.empty();
+                                });
+                    }), CONNECTIONS)
+                    .blockLast(Duration.ofMinutes(30));
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(Arrays.copyOf(latencies, next.get()), elapsed, failures.get(), peakHeap.get(), peakThreads.get());
+    }
+
+    private record Fixture(List<String> memberIds, List<String> gameIds) {
+    }
+
+    private static final class Result {
+        final long[] latencies;
+        final long elapsedNanos;
+        final int failures;
+        final long peakHeapBytes;
+        final int peakThreads;
+
+        Result(long[] latencies, long elapsedNanos, int failures, long peakHeapBytes, int peakThreads) {
+            Arrays.sort(latencies);
+            this.latencies = latencies;
+            this.elapsedNanos = elapsedNanos;
+            this.failures = failures;
+            this.peakHeapBytes = peakHeapBytes;
+            this.peakThreads = peakThreads;
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1e9);
+        }
+
+        double percentile(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = Math.max(0, (int) Math.ceil(p * latencies.length) - 1);
+            return latencies[index] / 1e6;
+        }
+    }
+}
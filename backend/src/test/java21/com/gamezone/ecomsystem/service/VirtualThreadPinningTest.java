@@ -0,0 +1,114 @@
+package com.gamezone.ecomsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Runs the code paths that hold a lock around a Mongo call on virtual
+ * threads, with repositories that block the way a driver call does, and
+ * fails on any jdk.VirtualThreadPinned event: a monitor held across I/O
+ * would tie up a carrier thread for the whole round trip.
+ */
+class VirtualThreadPinningTest {
+
+    private static final int THREADS = 64;
+
+    private GameRepository gameRepo;
+    private MemberRepository memberRepo;
+    private final List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Game game = new Game("Chess", 10.0, "Game used by the pinning test.", "Strategy", "PC");
+        game.setId("64b000000000000000000001");
+        gameRepo = mock(GameRepository.class);
+        when(gameRepo.findAll()).thenAnswer(invocation -> blocking(List.of(game)));
+        when(gameRepo.findById(anyString())).thenAnswer(invocation -> blocking(Optional.of(game)));
+
+        Member member = new Member();
+        member.setId("m1");
+        member.setPhoneNumber("9000000001");
+        member.setEmail("ravi@example.com");
+        memberRepo = mock(MemberRepository.class);
+        when(memberRepo.findById(anyString())).thenAnswer(invocation -> blocking(Optional.of(member)));
+    }
+
+    @Test
+    void catalogWritersDoNotPinCarriers() throws Exception {
+        GameCatalog catalog = new GameCatalog();
+        ReflectionTestUtils.setField(catalog, "repo", gameRepo);
+
+        record(() -> {
+            catalog.findAll(); // Concurrent first loads contend for the writer lock
+            catalog.refresh("64b000000000000000000001");
+            catalog.reload();
+        });
+        assertTrue(pinned.isEmpty(), () -> "Pinned virtual threads: " + pinned);
+        assertEquals(1, catalog.findAll().size());
+    }
+
+    @Test
+    void memberCacheLoadsDoNotPinCarriers() throws Exception {
+        MemberCache cache = new MemberCache();
+        ReflectionTestUtils.setField(cache, "repo", memberRepo);
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "expireAfterWrite", Duration.ofMinutes(1));
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        record(() -> {
+            cache.findById("m1");
+            cache.invalidate("m1");
+            cache.findById("m1");
+        });
+        assertTrue(pinned.isEmpty(), () -> "Pinned virtual threads: " + pinned);
+    }
+
+    private void record(Runnable work) throws Exception {
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            stream.startAsync();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> tasks = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    tasks.add(executor.submit(work));
+                }
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            }
+            stream.stop(); // Delivers every event recorded so far
+        }
+    }
+
+    private static <T> T blocking(T result) throws InterruptedException {
+        Thread.sleep(5); // Parks a virtual thread, as waiting on a socket does
+        return result;
+    }
+}
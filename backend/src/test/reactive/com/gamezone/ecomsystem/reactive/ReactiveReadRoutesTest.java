@@ -0,0 +1,129 @@
+package com.gamezone.ecomsystem.reactive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.gamezone.ecomsystem.dto.CursorPage;
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveGameRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveMemberRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveRechargeRepository;
+import com.gamezone.ecomsystem.repository.reactive.ReactiveTransactionRepository;
+import com.gamezone.ecomsystem.service.GameCatalog;
+import com.gamezone.ecomsystem.service.StatsService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveReadRoutesTest {
+
+    private ReactiveGameRepository gameRepo;
+    private ReactiveMemberRepository memberRepo;
+    private ReactiveTransactionRepository transactionRepo;
+    private ReactiveRechargeRepository rechargeRepo;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        gameRepo = mock(ReactiveGameRepository.class);
+        memberRepo = mock(ReactiveMemberRepository.class);
+        transactionRepo = mock(ReactiveTransactionRepository.class);
+        rechargeRepo = mock(ReactiveRechargeRepository.class);
+
+        GameRepository blockingGames = mock(GameRepository.class);
+        when(blockingGames.findAll()).thenReturn(List.of(game("64b000000000000000000001", "Chess")));
+        GameCatalog catalog = new GameCatalog();
+        ReflectionTestUtils.setField(catalog, "repo", blockingGames);
+
+        ReactiveReadHandler handler = new ReactiveReadHandler();
+        ReflectionTestUtils.setField(handler, "gameRepo", gameRepo);
+        ReflectionTestUtils.setField(handler, "memberRepo", memberRepo);
+        ReflectionTestUtils.setField(handler, "transactionRepo", transactionRepo);
+        ReflectionTestUtils.setField(handler, "rechargeRepo", rechargeRepo);
+        ReflectionTestUtils.setField(handler, "gameCatalog", catalog);
+        ReflectionTestUtils.setField(handler, "statsService", new StatsService());
+        client = WebTestClient.bindToRouterFunction(new ReactiveReadRoutes().reactiveReadRouter(handler)).build();
+    }
+
+    @Test
+    void fullCatalogPageCarriesTheNextCursor() {
+        when(gameRepo.findByIdGreaterThan(eq("000000000000000000000000"), any(Pageable.class)))
+                .thenReturn(Flux.just(game("64b000000000000000000001", "Chess"), game("64b000000000000000000002", "Go")));
+
+        client.get().uri("/games?limit=2").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(CursorPage.NEXT_CURSOR_HEADER, "64b000000000000000000002")
+                .expectBody().jsonPath("$[1].name").isEqualTo("Go");
+    }
+
+    @Test
+    void invalidParametersAreBadRequests() {
+        client.get().uri("/games?limit=abc").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Invalid limit: abc");
+        client.get().uri("/transactions/member/m1?after=nope").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Invalid cursor: nope");
+    }
+
+    @Test
+    void missingGameIsNotFound() {
+        when(gameRepo.findById("64b000000000000000000009")).thenReturn(Mono.empty());
+
+        client.get().uri("/games/64b000000000000000000009").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Game not found with id: 64b000000000000000000009");
+    }
+
+    @Test
+    void userDashboardCombinesTheReads() {
+        Member member = new Member();
+        member.setId("m1");
+        member.setName("Ravi");
+        member.setEmail("ravi@example.com");
+        member.setPhoneNumber("9000000001");
+        member.setBalance(40.0);
+        when(memberRepo.findById("m1")).thenReturn(Mono.just(member));
+        when(transactionRepo.findByMemberId("m1")).thenReturn(Flux.just(
+                new Transaction("m1", "g1", 10.0, null), new Transaction("m1", "g2", 15.0, null)));
+        when(rechargeRepo.findByMemberId("m1")).thenReturn(Flux.empty());
+
+        client.get().uri("/dashboard/user/m1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.member.name").isEqualTo("Ravi")
+                .jsonPath("$.totalSpent").isEqualTo(25.0)
+                .jsonPath("$.totalRecharged").isEqualTo(0.0)
+                .jsonPath("$.games[0].name").isEqualTo("Chess");
+    }
+
+    @Test
+    void unknownMemberDashboardMatchesTheServletResponse() {
+        when(memberRepo.findById("missing")).thenReturn(Mono.empty());
+        when(transactionRepo.findByMemberId("missing")).thenReturn(Flux.empty());
+        when(rechargeRepo.findByMemberId("missing")).thenReturn(Flux.empty());
+
+        client.get().uri("/dashboard/user/missing").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Member not found");
+    }
+
+    private static Game game(String id, String name) {
+        Game game = new Game(name, 10.0, "Game used by the reactive route test.", "Strategy", "PC");
+        game.setId(id);
+        return game;
+    }
+}
@@ -0,0 +1,178 @@
+package com.gamezone.ecomsystem.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gamezone.ecomsystem.model.Game;
+import com.gamezone.ecomsystem.model.Member;
+import com.gamezone.ecomsystem.model.Recharge;
+import com.gamezone.ecomsystem.model.Transaction;
+import com.gamezone.ecomsystem.repository.GameRepository;
+import com.gamezone.ecomsystem.repository.MemberRepository;
+import com.gamezone.ecomsystem.repository.RechargeRepository;
+import com.gamezone.ecomsystem.repository.TransactionRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Throughput and latency of the read endpoints on the servlet stack (Tomcat,
+ * blocking driver) against the reactive stack (Netty, reactive driver), both
+ * running in one application against the same Mongo.
+ *
+ * Opt-in, as it takes a few minutes:
+ * {@code mvn test -Dtest=ReadStackBenchmark -Dbenchmark=true}, optionally with
+ * -Dbenchmark.concurrency (default 512) and -Dbenchmark.requests (default 20000).
+ * Concurrency above Tomcat's 200 worker threads is where the stacks part ways.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = { "reactive.server.port=0", "cache.invalidation.transport=loopback",
+                "logging.level.org.springframework.data.mongodb=WARN", "logging.level.com.gamezone.ecomsystem=WARN" })
+@ActiveProfiles("reactive")
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReadStackBenchmark {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 512);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int WARMUP = REQUESTS / 5;
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired
+    private ReactiveReadServer reactiveServer;
+
+    private static String memberId;
+
+    @BeforeAll
+    static void seed(@Autowired GameRepository games, @Autowired MemberRepository members,
+            @Autowired TransactionRepository transactions, @Autowired RechargeRepository recharges) {
+        List<Game> catalog = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            catalog.add(new Game("Benchmark game " + i, 5.0 + i % 50, "Seeded by the read stack benchmark.", "Arcade", "PC"));
+        }
+        games.saveAll(catalog);
+
+        Member member = new Member();
+        member.setName("Benchmark");
+        member.setEmail("benchmark@example.com");
+        member.setPhoneNumber("9000000099");
+        member.setBalance(1000.0);
+        memberId = members.save(member).getId();
+
+        List<Transaction> history = new ArrayList<>();
+        List<Recharge> topUps = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            history.add(new Transaction(memberId, catalog.get(i).getId(), 5.0, new Date()));
+            Recharge recharge = new Recharge();
+            recharge.setMemberId(memberId);
+            recharge.setAmount(20.0);
+            recharge.setDate(new Date());
+            topUps.add(recharge);
+        }
+        transactions.saveAll(history);
+        recharges.saveAll(topUps);
+    }
+
+    @Test
+    void compareStacks() {
+        ConnectionProvider connections = ConnectionProvider.builder("benchmark")
+                .maxConnections(CONCURRENCY)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+        try {
+            System.out.printf("%-34s %-8s %10s %10s %10s %10s%n", "endpoint", "stack", "req/s", "p50 ms", "p99 ms", "max ms");
+            for (String path : List.of("/games?limit=50", "/transactions/member/" + memberId, "/dashboard/user/" + memberId, "/dashboard/admin/stats")) {
+                report(client, path, "servlet", servletPort);
+                report(client, path, "reactive", reactiveServer.getPort());
+            }
+        } finally {
+            connections.disposeLater().block();
+        }
+    }
+
+    private void report(WebClient client, String path, String stack, int port) {
+        String url = "http://localhost:" + port + path;
+        run(client, url, WARMUP);
+        Result result = run(client, url, REQUESTS);
+        assertEquals(0, result.failures, stack + " " + path + " had failed requests");
+        System.out.printf("%-34s %-8s %10.0f %10.2f %10.2f %10.2f%n", path.replace(memberId, "{id}"), stack,
+                result.throughput(), result.percentile(0.50), result.percentile(0.99), result.percentile(1.0));
+    }
+
+    private Result run(WebClient client, String url, int requests) {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+        Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> {
+                    long sent = System.nanoTime();
+                    return client.get().uri(url).retrieve().toBodilessEntity()
+                            .doOnNext(response -> latencies[next.getAndIncrement()] = System.nanoTime() - sent)
+                            .onErrorResume(e -> {
+                                failures.incrementAndGet();
+                                return Mono.empty();
+                            });
+                }), CONCURRENCY)
+                .blockLast(Duration.ofMinutes(10));
+        long elapsed = System.nanoTime() - start;
+        return new Result(Arrays.copyOf(latencies, next.get()), elapsed, failures.get());
+    }
+
+    private static final class Result {
+        final long[] latencies;
+        final long elapsedNanos;
+        final int failures;
+
+        Result(long[] latencies, long elapsedNanos, int failures) {
+            Arrays.sort(latencies);
+            this.latencies = latencies;
+            this.elapsedNanos = elapsedNanos;
+            this.failures = failures;
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1e9);
+        }
+
+        double percentile(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = Math.max(0, (int) Math.ceil(p * latencies.length) - 1);
+            return latencies[index] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+import apiClient from './client';
+import { AdminStats } from '../types';
+
+export const dashboardApi = {
+  // Get platform totals and recent activity (admin only)
+  getAdminStats: async (): Promise<AdminStats> => {
+    const response = await apiClient.get('/dashboard/admin/stats');
+    return response.data;
+  },
+};
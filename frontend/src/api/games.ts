@@ -1,17 +1,18 @@
 import apiClient from './client';
+import { getPage, Page } from './paging';
 import { Game, GameFormData } from '../types';
 
+export interface GameListParams {
+  limit?: number;
+  genre?: string;
+  platform?: string;
+  search?: string;
+}
+
 export const gamesApi = {
   // Get all games
-  getGames: async (params?: {
-    page?: number;
-    size?: number;
-    genre?: string;
-    platform?: string;
-    search?: string;
-  }) => {
-    const response = await apiClient.get('/games', { params });
-    return response.data;
+  getGames: async (params?: GameListParams, after?: string): Promise<Page<Game>> => {
+    return getPage<Game>('/games', after, params);
   },
 
   // Get game by ID
@@ -1,11 +1,11 @@
 import apiClient from './client';
+import { getPage, Page } from './paging';
 import { Member, MemberFormData, MemberProfileDto, SearchRequestDto } from '../types';
 
 export const membersApi = {
   // Get all members (admin only)
-  getMembers: async (): Promise<Member[]> => {
-    const response = await apiClient.get('/members');
-    return response.data;
+  getMembers: async (after?: string): Promise<Page<Member>> => {
+    return getPage<Member>('/members', after);
   },
 
   // Get member by ID
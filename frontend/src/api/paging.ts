@@ -0,0 +1,24 @@
+import apiClient from './client';
+import { InfiniteData } from '@tanstack/react-query';
+
+// List endpoints return one page at a time; the cursor for the next page comes back in this header
+const NEXT_CURSOR_HEADER = 'x-next-cursor';
+
+export interface Page<T> {
+  items: T[];
+  next?: string; // Cursor for the following page, absent on the last one
+}
+
+// Fetch one page of a list endpoint, starting after the given cursor
+export const getPage = async <T>(url: string, after?: string, params?: Record<string, unknown>): Promise<Page<T>> => {
+  const response = await apiClient.get<T[]>(url, { params: { ...params, after } });
+  return {
+    items: response.data,
+    next: (response.headers[NEXT_CURSOR_HEADER] as string | undefined) || undefined,
+  };
+};
+
+// The items of every page loaded so far by an infinite query, in order
+export const loadedItems = <T>(data?: InfiniteData<Page<T>>): T[] => {
+  return data?.pages.flatMap((page) => page.items) ?? [];
+};
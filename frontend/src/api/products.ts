@@ -1,11 +1,11 @@
 import apiClient from './client';
+import { getPage, Page } from './paging';
 import { Product, ProductFormData } from '../types';
 
 export const productsApi = {
   // Get all products
-  getProducts: async (): Promise<Product[]> => {
-    const response = await apiClient.get('/products');
-    return response.data;
+  getProducts: async (after?: string): Promise<Page<Product>> => {
+    return getPage<Product>('/products', after);
   },
 
   // Get product by ID
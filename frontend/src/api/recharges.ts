@@ -1,17 +1,16 @@
 import apiClient from './client';
+import { getPage, Page } from './paging';
 import { Recharge, CreateRechargeRequest } from '../types';
 
 export const rechargesApi = {
   // Get all recharges (admin only)
-  getRecharges: async (): Promise<Recharge[]> => {
-    const response = await apiClient.get('/recharges');
-    return response.data;
+  getRecharges: async (after?: string): Promise<Page<Recharge>> => {
+    return getPage<Recharge>('/recharges', after);
   },
 
   // Get recharges by member ID
-  getRechargesByMember: async (memberId: string): Promise<Recharge[]> => {
-    const response = await apiClient.get(`/recharges/member/${memberId}`);
-    return response.data;
+  getRechargesByMember: async (memberId: string, after?: string): Promise<Page<Recharge>> => {
+    return getPage<Recharge>(`/recharges/member/${memberId}`, after);
   },
 
   // Create recharge (user adds balance)
@@ -1,17 +1,16 @@
 import apiClient from './client';
+import { getPage, Page } from './paging';
 import { Transaction, CreateTransactionRequest } from '../types';
 
 export const transactionsApi = {
   // Get all transactions (admin only)
-  getTransactions: async (): Promise<Transaction[]> => {
-    const response = await apiClient.get('/transactions');
-    return response.data;
+  getTransactions: async (after?: string): Promise<Page<Transaction>> => {
+    return getPage<Transaction>('/transactions', after);
   },
 
   // Get transactions by member ID
-  getTransactionsByMember: async (memberId: string): Promise<Transaction[]> => {
-    const response = await apiClient.get(`/transactions/member/${memberId}`);
-    return response.data;
+  getTransactionsByMember: async (memberId: string, after?: string): Promise<Page<Transaction>> => {
+    return getPage<Transaction>(`/transactions/member/${memberId}`, after);
   },
 
   // Create transaction (user purchases game)
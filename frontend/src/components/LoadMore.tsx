@@ -0,0 +1,22 @@
+import React from 'react';
+import { LoadingSpinner } from './LoadingSpinner';
+
+interface LoadMoreProps {
+  hasMore?: boolean;
+  loading?: boolean;
+  onLoadMore: () => void;
+}
+
+// Fetches the next page of a keyset-paginated list on demand
+export const LoadMore: React.FC<LoadMoreProps> = ({ hasMore, loading = false, onLoadMore }) => {
+  if (!hasMore) return null;
+
+  return (
+    <div className="flex justify-center mt-8">
+      <button onClick={onLoadMore} disabled={loading} className="btn-secondary flex items-center gap-2">
+        {loading && <LoadingSpinner size="sm" />}
+        Load more
+      </button>
+    </div>
+  );
+};
@@ -0,0 +1,17 @@
+import { useQuery } from '@tanstack/react-query';
+import { dashboardApi } from '../api/dashboard';
+
+// Query keys
+export const dashboardKeys = {
+  all: ['dashboard'] as const,
+  adminStats: () => [...dashboardKeys.all, 'admin', 'stats'] as const,
+};
+
+// Get platform totals and recent activity (admin only)
+export const useAdminStats = () => {
+  return useQuery({
+    queryKey: dashboardKeys.adminStats(),
+    queryFn: () => dashboardApi.getAdminStats(),
+    staleTime: 2 * 60 * 1000, // 2 minutes
+  });
+};
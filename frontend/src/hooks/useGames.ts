@@ -1,5 +1,5 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
-import { gamesApi } from '../api/games';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { gamesApi, GameListParams } from '../api/games';
 import { Game, GameFormData } from '../types';
 
 // Query keys
@@ -11,17 +11,13 @@ export const gameKeys = {
   detail: (id: string) => [...gameKeys.details(), id] as const,
 };
 
-// Get all games
-export const useGames = (params?: {
-  page?: number;
-  size?: number;
-  genre?: string;
-  platform?: string;
-  search?: string;
-}) => {
-  return useQuery({
+// Get all games, one page at a time
+export const useGames = (params?: GameListParams) => {
+  return useInfiniteQuery({
     queryKey: gameKeys.list(params || {}),
-    queryFn: () => gamesApi.getGames(params),
+    queryFn: ({ pageParam }) => gamesApi.getGames(params, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     staleTime: 5 * 60 * 1000, // 5 minutes
   });
 };
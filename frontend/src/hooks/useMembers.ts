@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { membersApi } from '../api/members';
 import { Member, MemberFormData, MemberProfileDto } from '../types';
 
@@ -11,11 +11,13 @@ export const memberKeys = {
   profile: (phone: string) => [...memberKeys.all, 'profile', phone] as const,
 };
 
-// Get all members (admin only)
+// Get all members (admin only), one page at a time
 export const useMembers = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: memberKeys.lists(),
-    queryFn: () => membersApi.getMembers(),
+    queryFn: ({ pageParam }) => membersApi.getMembers(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     staleTime: 5 * 60 * 1000, // 5 minutes
   });
 };
@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { productsApi } from '../api/products';
 import { Product, ProductFormData } from '../types';
 
@@ -10,11 +10,13 @@ export const productKeys = {
   detail: (id: string) => [...productKeys.details(), id] as const,
 };
 
-// Get all products
+// Get all products, one page at a time
 export const useProducts = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: productKeys.lists(),
-    queryFn: () => productsApi.getProducts(),
+    queryFn: ({ pageParam }) => productsApi.getProducts(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     staleTime: 5 * 60 * 1000, // 5 minutes
   });
 };
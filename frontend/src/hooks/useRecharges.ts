@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { rechargesApi } from '../api/recharges';
 import { Recharge, CreateRechargeRequest } from '../types';
 
@@ -9,20 +9,24 @@ export const rechargeKeys = {
   byMember: (memberId: string) => [...rechargeKeys.all, 'member', memberId] as const,
 };
 
-// Get all recharges (admin only)
+// Get all recharges (admin only), one page at a time
 export const useRecharges = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: rechargeKeys.lists(),
-    queryFn: () => rechargesApi.getRecharges(),
+    queryFn: ({ pageParam }) => rechargesApi.getRecharges(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     staleTime: 2 * 60 * 1000, // 2 minutes
   });
 };
 
-// Get recharges by member
+// Get recharges by member, one page at a time
 export const useRechargesByMember = (memberId: string) => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: rechargeKeys.byMember(memberId),
-    queryFn: () => rechargesApi.getRechargesByMember(memberId),
+    queryFn: ({ pageParam }) => rechargesApi.getRechargesByMember(memberId, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     enabled: !!memberId,
     staleTime: 2 * 60 * 1000, // 2 minutes
   });
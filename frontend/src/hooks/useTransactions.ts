@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { transactionsApi } from '../api/transactions';
 import { Transaction, CreateTransactionRequest } from '../types';
 
@@ -9,20 +9,24 @@ export const transactionKeys = {
   byMember: (memberId: string) => [...transactionKeys.all, 'member', memberId] as const,
 };
 
-// Get all transactions (admin only)
+// Get all transactions (admin only), one page at a time
 export const useTransactions = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: transactionKeys.lists(),
-    queryFn: () => transactionsApi.getTransactions(),
+    queryFn: ({ pageParam }) => transactionsApi.getTransactions(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     staleTime: 2 * 60 * 1000, // 2 minutes
   });
 };
 
-// Get transactions by member
+// Get transactions by member, one page at a time
 export const useTransactionsByMember = (memberId: string) => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: transactionKeys.byMember(memberId),
-    queryFn: () => transactionsApi.getTransactionsByMember(memberId),
+    queryFn: ({ pageParam }) => transactionsApi.getTransactionsByMember(memberId, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.next,
     enabled: !!memberId,
     staleTime: 2 * 60 * 1000, // 2 minutes
   });
@@ -1,9 +1,6 @@
 import React from 'react';
 import { Link } from 'react-router-dom';
-import { useMembers } from '../hooks/useMembers';
-import { useGames } from '../hooks/useGames';
-import { useRecharges } from '../hooks/useRecharges';
-import { useTransactions } from '../hooks/useTransactions';
+import { useAdminStats } from '../hooks/useDashboard';
 import { LoadingSpinner } from '../components/LoadingSpinner';
 import { 
   UserGroupIcon,
@@ -15,18 +12,13 @@ import {
 } from '@heroicons/react/24/outline';
 
 export const AdminDashboard: React.FC = () => {
-  const { data: members, isLoading: membersLoading } = useMembers();
-  const { data: games, isLoading: gamesLoading } = useGames();
-  const { data: recharges, isLoading: rechargesLoading } = useRecharges();
-  const { data: transactions, isLoading: transactionsLoading } = useTransactions();
+  // Totals come from the server's counters rather than from every member, game and transaction
+  const { data: stats, isLoading } = useAdminStats();
 
-  const isLoading = membersLoading || gamesLoading || rechargesLoading || transactionsLoading;
-
-  // Calculate stats
-  const totalRevenue = transactions?.reduce((sum, t) => sum + t.amount, 0) || 0;
-  const totalRecharges = recharges?.reduce((sum, r) => sum + r.amount, 0) || 0;
-  const activeMembers = members?.filter(m => m.isActive).length || 0;
-  const recentTransactions = transactions?.slice(0, 5) || [];
+  const totalRevenue = stats?.totalRevenue || 0;
+  const totalRecharges = stats?.totalRechargeAmount || 0;
+  const activeMembers = stats?.activeMembers || 0;
+  const recentTransactions = stats?.recentTransactions.slice(0, 5) || [];
 
   const quickActions = [
     {
@@ -85,7 +77,7 @@ export const AdminDashboard: React.FC = () => {
               </div>
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Total Members</p>
-                <p className="text-2xl font-bold text-gray-900">{members?.length || 0}</p>
+                <p className="text-2xl font-bold text-gray-900">{stats?.totalMembers || 0}</p>
                 <p className="text-xs text-green-600">{activeMembers} active</p>
               </div>
             </div>
@@ -98,7 +90,7 @@ export const AdminDashboard: React.FC = () => {
               </div>
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Total Games</p>
-                <p className="text-2xl font-bold text-gray-900">{games?.length || 0}</p>
+                <p className="text-2xl font-bold text-gray-900">{stats?.totalGames || 0}</p>
               </div>
             </div>
           </div>
@@ -217,7 +209,7 @@ export const AdminDashboard: React.FC = () => {
                   <CommandLineIcon className="w-8 h-8 text-purple-600" />
                 </div>
                 <h3 className="font-semibold text-gray-900 mb-1">Games Available</h3>
-                <p className="text-sm text-gray-600">{games?.length || 0} games</p>
+                <p className="text-sm text-gray-600">{stats?.totalGames || 0} games</p>
               </div>
             </div>
           </div>
@@ -1,8 +1,10 @@
 import React, { useState } from 'react';
 import { Link } from 'react-router-dom';
 import { useGames } from '../hooks/useGames';
+import { loadedItems } from '../api/paging';
 import { GameCard } from '../components/GameCard';
 import { LoadingSpinner } from '../components/LoadingSpinner';
+import { LoadMore } from '../components/LoadMore';
 import { 
   MagnifyingGlassIcon, 
   FunnelIcon,
@@ -16,11 +18,12 @@ export const Games: React.FC = () => {
   const [platform, setPlatform] = useState('');
   const [viewMode, setViewMode] = useState<'grid' | 'list'>('grid');
 
-  const { data: games, isLoading } = useGames({
+  const { data, isLoading, hasNextPage, isFetchingNextPage, fetchNextPage } = useGames({
     search: search || undefined,
     genre: genre || undefined,
     platform: platform || undefined,
   });
+  const games = loadedItems(data);
 
   const genres = ['Action', 'Adventure', 'RPG', 'Strategy', 'Sports', 'Racing', 'Puzzle', 'Simulation'];
   const platforms = ['PC', 'PlayStation', 'Xbox', 'Nintendo Switch', 'Mobile'];
@@ -91,7 +94,7 @@ export const Games: React.FC = () => {
             <div className="flex items-center gap-2">
               <FunnelIcon className="w-5 h-5 text-gray-400" />
               <span className="text-sm text-gray-600">
-                {games?.length || 0} games found
+                {games.length}{hasNextPage ? '+' : ''} games found
               </span>
             </div>
             
@@ -125,21 +128,24 @@ export const Games: React.FC = () => {
           <div className="flex justify-center py-12">
             <LoadingSpinner size="lg" />
           </div>
-        ) : games && games.length > 0 ? (
-          <div className={
-            viewMode === 'grid'
-              ? 'grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4 gap-6'
-              : 'space-y-4'
-          }>
-            {games.map((game) => (
-              <GameCard
-                key={game.id}
-                game={game}
-                onView={(game) => window.location.href = `/games/${game.id}`}
-                onBuy={(game) => window.location.href = `/games/${game.id}`}
-              />
-            ))}
-          </div>
+        ) : games.length > 0 ? (
+          <>
+            <div className={
+              viewMode === 'grid'
+                ? 'grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4 gap-6'
+                : 'space-y-4'
+            }>
+              {games.map((game) => (
+                <GameCard
+                  key={game.id}
+                  game={game}
+                  onView={(game) => window.location.href = `/games/${game.id}`}
+                  onBuy={(game) => window.location.href = `/games/${game.id}`}
+                />
+              ))}
+            </div>
+            <LoadMore hasMore={hasNextPage} loading={isFetchingNextPage} onLoadMore={() => fetchNextPage()} />
+          </>
         ) : (
           <div className="text-center py-12">
             <div className="w-24 h-24 bg-gray-100 rounded-full flex items-center justify-center mx-auto mb-4">
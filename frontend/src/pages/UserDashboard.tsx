@@ -4,6 +4,7 @@ import { useMemberProfile } from '../hooks/useMembers';
 import { useCreateRecharge } from '../hooks/useRecharges';
 import { useCreateTransaction } from '../hooks/useTransactions';
 import { useGames } from '../hooks/useGames';
+import { loadedItems } from '../api/paging';
 import { useToast } from '../hooks/useToast';
 import { LoadingSpinner } from '../components/LoadingSpinner';
 import { Modal } from '../components/Modal';
@@ -25,7 +26,8 @@ export const UserDashboard: React.FC = () => {
   const [paymentMethod, setPaymentMethod] = useState('');
 
   const { data: profile, isLoading: profileLoading } = useMemberProfile(user?.phoneNumber || '');
-  const { data: games } = useGames({ size: 4 });
+  const { data: gamePage } = useGames({ limit: 4 });
+  const games = loadedItems(gamePage);
   const createRecharge = useCreateRecharge();
   const createTransaction = useCreateTransaction();
   const { success, error } = useToast();
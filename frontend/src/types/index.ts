@@ -99,6 +99,19 @@ export interface MemberProfileDto {
   played_history: PlayedHistory[];
 }
 
+// Counters kept by the backend, so the dashboard need not load every list
+export interface AdminStats {
+  totalMembers: number;
+  activeMembers: number;
+  totalGames: number;
+  totalTransactions: number;
+  totalRevenue: number;
+  totalRecharges: number;
+  totalRechargeAmount: number;
+  recentTransactions: Pick<Transaction, 'id' | 'amount' | 'date' | 'memberId' | 'gameId'>[];
+  recentRecharges: Pick<Recharge, 'id' | 'amount' | 'date' | 'memberId'>[];
+}
+
 // API Request/Response types
 export interface SearchRequestDto {
   phone: string;